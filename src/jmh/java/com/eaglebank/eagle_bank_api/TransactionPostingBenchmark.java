@@ -0,0 +1,88 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.eagle_bank_api.dto.BankAccountCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.dto.UserCreateRequest;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.eaglebank.eagle_bank_api.service.UserService;
+
+// End-to-end posting through the service layer (retry proxy, transaction, SQL) against in-memory H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionPostingBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private Long userId;
+    private Long accountId;
+    private TransactionCreateRequest deposit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EagleBankApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmarkdb;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.com.eaglebank=WARN",
+                "logging.level.org.springframework.web=WARN")
+            .run();
+        transactionService = context.getBean(TransactionService.class);
+
+        UserCreateRequest user = new UserCreateRequest();
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setEmail("bench@example.com");
+        user.setPhoneNumber("1234567890");
+        user.setAddress("1 Benchmark Way");
+        userId = context.getBean(UserService.class).createUser(user).getUserId();
+
+        BankAccountCreateRequest account = new BankAccountCreateRequest();
+        account.setAccountName("Benchmark Account");
+        account.setAccountType("CHECKING");
+        account.setInitialBalance(BigDecimal.ZERO);
+        accountId = context.getBean(BankAccountService.class).createBankAccount(userId, account).getAccountId();
+
+        deposit = new TransactionCreateRequest();
+        deposit.setTransactionType("DEPOSIT");
+        deposit.setAmount(new BigDecimal("1.00"));
+        deposit.setDescription("benchmark deposit");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionResponse createTransaction() {
+        return transactionService.createTransaction(accountId, userId, deposit);
+    }
+}
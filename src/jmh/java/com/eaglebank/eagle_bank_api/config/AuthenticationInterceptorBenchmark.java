@@ -0,0 +1,115 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// preHandle runs on every /v1 request; covers the authenticated, registration and rejected paths.
+// The legacy* benchmarks keep the previous regex-based implementation as a baseline; run with
+// -Djmh.args="AuthenticationInterceptor -prof gc" to compare gc.alloc.rate.norm (bytes per request).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationInterceptorBenchmark {
+
+    private final AuthenticationInterceptor interceptor = new AuthenticationInterceptor();
+    private final LegacyAuthenticationInterceptor legacyInterceptor = new LegacyAuthenticationInterceptor();
+    private final Object handler = new Object();
+
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest registration;
+    private MockHttpServletRequest unauthenticated;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        authenticated = new MockHttpServletRequest("GET", "/api/v1/accounts/42/transactions");
+        authenticated.addHeader("X-User-Id", "1");
+        registration = new MockHttpServletRequest("POST", "/api/v1/users");
+        unauthenticated = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        // Reused for the paths that do not write a body, so the mock itself is not measured
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean authenticatedRequest() throws Exception {
+        return interceptor.preHandle(authenticated, response, handler);
+    }
+
+    @Benchmark
+    public boolean legacyAuthenticatedRequest() throws Exception {
+        return legacyInterceptor.preHandle(authenticated, response, handler);
+    }
+
+    @Benchmark
+    public boolean userRegistration() throws Exception {
+        return interceptor.preHandle(registration, response, handler);
+    }
+
+    @Benchmark
+    public boolean legacyUserRegistration() throws Exception {
+        return legacyInterceptor.preHandle(registration, response, handler);
+    }
+
+    @Benchmark
+    public boolean missingUserHeader() throws Exception {
+        return interceptor.preHandle(unauthenticated, new MockHttpServletResponse(), handler);
+    }
+
+    @Benchmark
+    public boolean legacyMissingUserHeader() throws Exception {
+        return legacyInterceptor.preHandle(unauthenticated, new MockHttpServletResponse(), handler);
+    }
+
+    // The interceptor as it was before the fast path: a regex compiled per request and a parse whose
+    // result is discarded (controllers parsed the header a second time)
+    private static final class LegacyAuthenticationInterceptor {
+
+        boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+            String requestURI = request.getRequestURI();
+            String method = request.getMethod();
+
+            if ("POST".equals(method) && requestURI.matches(".*/v1/users/?$")) {
+                return true;
+            }
+
+            String userIdHeader = request.getHeader("X-User-Id");
+
+            if (userIdHeader == null || userIdHeader.trim().isEmpty()) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.setContentType("application/json");
+                response.getWriter().write("{\"message\":\"Authentication required\",\"status\":401}");
+                return false;
+            }
+
+            try {
+                Long.parseLong(userIdHeader);
+            } catch (NumberFormatException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                response.setContentType("application/json");
+                response.getWriter().write("{\"message\":\"Invalid user ID format\",\"status\":400}");
+                return false;
+            }
+
+            // What @RequestHeader("X-User-Id") Long then did again in every controller
+            return Long.valueOf(userIdHeader) != null;
+        }
+    }
+}
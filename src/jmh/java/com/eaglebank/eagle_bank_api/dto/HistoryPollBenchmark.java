@@ -0,0 +1,87 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.eaglebank.eagle_bank_api.config.CompactJsonModule;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// Server-side cost of one dashboard poll of a history page: the full JSON body, the body gzipped as
+// Tomcat's compression filter does, or a 304 that only builds and compares the ETag. Bytes on the
+// wire per poll are printed once per trial (a 304 sends headers only).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistoryPollBenchmark {
+
+    @Param({"50", "500"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TransactionResponse> transactions;
+    private ResourceVersion version;
+    private String ifNoneMatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        writer = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .modulesToInstall(new CompactJsonModule())
+            .build()
+            .writerFor(List.class);
+
+        transactions = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionResponse((long) i, new BigDecimal("125.50"), "DEPOSIT",
+                i % 2 == 0 ? "Salary deposit" : null, new BigDecimal("10250.75"), now.minusMinutes(i), 1L));
+        }
+        version = new ResourceVersion((long) size, now);
+        ifNoneMatch = version.toETag("transactions-1");
+
+        System.out.printf("%n%d transactions: %d bytes as JSON, %d gzipped, 0 for a 304%n",
+            size, fullBody().length, gzippedBody().length);
+    }
+
+    @Benchmark
+    public byte[] fullBody() throws IOException {
+        return writer.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] gzippedBody() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, transactions);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public boolean notModified() {
+        return version.toETag("transactions-1").equals(ifNoneMatch);
+    }
+}
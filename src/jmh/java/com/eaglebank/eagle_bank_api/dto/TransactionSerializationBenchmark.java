@@ -0,0 +1,81 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.eaglebank.eagle_bank_api.config.CompactJsonModule;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+// Serialization of a transaction history page, with the mapper configured like the application's.
+// mapper: "default" is Boot's stock mapper, "plain" adds WRITE_BIGDECIMAL_AS_PLAIN, and "compact" is
+// the application's (CompactJsonModule and Blackbird). Response sizes are printed once per trial;
+// run with -prof gc for bytes allocated per response.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean indentOutput;
+
+    @Param({"default", "plain", "compact"})
+    private String mapper;
+
+    private ObjectWriter writer;
+    private List<TransactionResponse> transactions;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .indentOutput(indentOutput);
+        if (mapper.equals("plain")) {
+            builder.featuresToEnable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+        } else if (mapper.equals("compact")) {
+            builder.modulesToInstall(new CompactJsonModule(), new BlackbirdModule());
+        }
+        writer = builder.build().writerFor(List.class);
+
+        transactions = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionResponse((long) i, new BigDecimal("125.50"), "DEPOSIT",
+                i % 2 == 0 ? "Salary deposit" : null, new BigDecimal("10250.75"), now.minusMinutes(i), 1L));
+        }
+
+        int bytes = writer.writeValueAsBytes(transactions).length;
+        System.out.printf("%n%s mapper, indentOutput=%s: %d bytes per response, %d per transaction%n",
+            mapper, indentOutput, bytes, bytes / size);
+    }
+
+    @Benchmark
+    public byte[] serializeTransactions() throws JsonProcessingException {
+        return writer.writeValueAsBytes(transactions);
+    }
+}
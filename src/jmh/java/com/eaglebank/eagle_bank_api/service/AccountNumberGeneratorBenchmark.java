@@ -0,0 +1,39 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Account numbers from one shared generator under contention. The legacy benchmark keeps the previous
+// "EB" + currentTimeMillis + Math.random() scheme as a baseline; compare with -t 1 and -t 8 to see how
+// both scale (Math.random() shares one Random, and its numbers repeat under bursts).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class AccountNumberGeneratorBenchmark {
+
+    private final TimeBasedAccountNumberGenerator generator = new TimeBasedAccountNumberGenerator(0);
+
+    @Benchmark
+    public String timeBased() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public String legacy() {
+        return "EB" + System.currentTimeMillis() + (int) (Math.random() * 1000);
+    }
+}
@@ -0,0 +1,78 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.entity.BankAccount;
+import com.eaglebank.eagle_bank_api.entity.Transaction;
+import com.eaglebank.eagle_bank_api.entity.User;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+
+// Entity -> response mapping and transaction type parsing, without any database involved
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"DEPOSIT", "withdrawal"})
+    private String transactionType;
+
+    private TransactionService transactionService;
+    private BankAccountService bankAccountService;
+    private Transaction transaction;
+    private BankAccount bankAccount;
+
+    @Setup
+    public void setUp() {
+        // The mappers only read their argument, so the services need no collaborators
+        transactionService = new TransactionService(null, null, null, null, null, null, null, null);
+        bankAccountService = new BankAccountService(null, null, null, null, null, null, null);
+
+        User user = new User();
+        user.setUserId(1L);
+
+        bankAccount = new BankAccount("Savings Account", "SAVINGS", new BigDecimal("1000.00"), user);
+        bankAccount.setAccountId(1L);
+        bankAccount.setAccountNumber("EB1705312345678");
+        bankAccount.setCreatedAt(LocalDateTime.now());
+        bankAccount.setUpdatedAt(LocalDateTime.now());
+
+        transaction = new Transaction(new BigDecimal("500.00"), "DEPOSIT", "Salary deposit",
+            new BigDecimal("1500.00"), bankAccount);
+        transaction.setTransactionId(1L);
+        transaction.setTransactionDate(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public TransactionResponse convertToTransactionResponse() {
+        return transactionService.convertToTransactionResponse(transaction);
+    }
+
+    @Benchmark
+    public BankAccountResponse convertToBankAccountResponse() {
+        return bankAccountService.convertToBankAccountResponse(bankAccount);
+    }
+
+    @Benchmark
+    public TransactionType transactionTypeFromValue() {
+        return TransactionType.fromValue(transactionType);
+    }
+}
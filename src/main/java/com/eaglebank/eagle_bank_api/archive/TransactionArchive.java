@@ -0,0 +1,216 @@
+package com.eaglebank.eagle_bank_api.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.service.TransactionCursor;
+
+/**
+ * Cold storage for transactions moved out of the transactions table: a directory of immutable
+ * {@link TransactionArchiveFile}s, one per archived chunk. Only the file headers are kept in
+ * memory; reads pick the files whose accounts and key range can match and decode just those,
+ * newest file first, so a page that ends early never touches older files.
+ */
+@Component
+public class TransactionArchive {
+    
+    private static final Comparator<TransactionResponse> NEWEST_FIRST = Comparator
+        .comparing(TransactionResponse::getTransactionDate)
+        .thenComparing(TransactionResponse::getTransactionId)
+        .reversed();
+    
+    private final Path directory;
+    
+    // Serializes appends; a lock rather than synchronized so a virtual thread writing a file
+    // does not pin its carrier
+    private final ReentrantLock appendLock = new ReentrantLock();
+    
+    // Sorted by last key, newest first; replaced wholesale on append so readers never need a lock
+    private volatile List<TransactionArchiveFile> files;
+    
+    @Autowired
+    public TransactionArchive(@Value("${eaglebank.transactions.archive.directory:./data/archive}") String directory) {
+        this.directory = Path.of(directory);
+        try {
+            List<TransactionArchiveFile> existing = new ArrayList<>();
+            // The directory is only created by the first archived chunk
+            if (Files.isDirectory(this.directory)) {
+                try (Stream<Path> paths = Files.list(this.directory)) {
+                    for (Path path : paths.filter(p -> p.getFileName().toString().endsWith(TransactionArchiveFile.SUFFIX)).toList()) {
+                        existing.add(TransactionArchiveFile.open(path));
+                    }
+                }
+            }
+            this.files = sorted(existing);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open transaction archive in " + directory, e);
+        }
+    }
+    
+    public boolean hasArchivedRows() {
+        return !files.isEmpty();
+    }
+    
+    // Writes the rows (oldest first) as one new file. The file only appears under its final name once
+    // it is complete and on disk, so a crash never leaves a partial file behind for readers.
+    public void append(List<TransactionResponse> rows) {
+        TransactionResponse first = rows.get(0);
+        TransactionResponse last = rows.get(rows.size() - 1);
+        String name = "transactions-" + first.getTransactionId() + "-" + last.getTransactionId();
+        Path target = directory.resolve(name + TransactionArchiveFile.SUFFIX);
+        Path temporary = directory.resolve(name + ".tmp");
+        appendLock.lock();
+        try {
+            Files.createDirectories(directory);
+            TransactionArchiveFile.write(temporary, rows);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            List<TransactionArchiveFile> updated = new ArrayList<>();
+            for (TransactionArchiveFile file : files) {
+                // A chunk re-archived after a failed delete replaces its earlier copy
+                if (!file.getPath().equals(target)) {
+                    updated.add(file);
+                }
+            }
+            updated.add(TransactionArchiveFile.open(target));
+            files = sorted(updated);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write transaction archive file " + target, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+    
+    // Archived history of the accounts strictly below the (beforeDate, beforeId) key, newest first.
+    // A null key starts from the newest archived row.
+    public List<TransactionResponse> findHistory(Collection<Long> accountIds, LocalDateTime beforeDate, Long beforeId,
+                                                 int limit) {
+        List<TransactionResponse> rows = new ArrayList<>();
+        if (limit < 1) {
+            return rows;
+        }
+        long[] accounts = sortedIds(accountIds);
+        scan(file -> file.coversAnyOf(accounts) && (beforeDate == null || isBefore(file.getFirstKey(), beforeDate, beforeId)),
+            row -> accountIds.contains(row.getAccountId())
+                && (beforeDate == null || isBefore(row, beforeDate, beforeId)),
+            row -> {
+                rows.add(row);
+                return rows.size() < limit;
+            });
+        return rows;
+    }
+    
+    // The last archived posting of the account at or before the instant
+    public Optional<TransactionResponse> findLastAtOrBefore(Long accountId, LocalDateTime asOf) {
+        List<TransactionResponse> found = new ArrayList<>(1);
+        long[] accounts = {accountId};
+        scan(file -> file.coversAnyOf(accounts) && !file.getFirstKey().getTransactionDate().isAfter(asOf),
+            row -> row.getAccountId().equals(accountId) && !row.getTransactionDate().isAfter(asOf),
+            row -> {
+                found.add(row);
+                return false;
+            });
+        return found.stream().findFirst();
+    }
+    
+    // The first archived posting of the account after the instant
+    public Optional<TransactionResponse> findFirstAfter(Long accountId, LocalDateTime asOf) {
+        TransactionResponse first = null;
+        for (TransactionArchiveFile file : files) {
+            if (file.getLastKey().getTransactionDate().isAfter(asOf) && file.coversAnyOf(new long[] {accountId})) {
+                for (TransactionResponse row : read(file)) {
+                    if (row.getAccountId().equals(accountId) && row.getTransactionDate().isAfter(asOf)
+                            && (first == null || NEWEST_FIRST.compare(row, first) > 0)) {
+                        first = row;
+                    }
+                }
+            }
+        }
+        return Optional.ofNullable(first);
+    }
+    
+    // Feeds archived rows of the accounts with from <= date < to and strictly below the
+    // (beforeDate, beforeId) key to the sink, newest first
+    public void forEachInRange(Collection<Long> accountIds, LocalDateTime from, LocalDateTime to,
+                               LocalDateTime beforeDate, Long beforeId, Consumer<TransactionResponse> sink) {
+        long[] accounts = sortedIds(accountIds);
+        scan(file -> file.coversAnyOf(accounts)
+                && file.getFirstKey().getTransactionDate().isBefore(to)
+                && !file.getLastKey().getTransactionDate().isBefore(from),
+            row -> accountIds.contains(row.getAccountId())
+                && !row.getTransactionDate().isBefore(from) && row.getTransactionDate().isBefore(to)
+                && (beforeDate == null || isBefore(row, beforeDate, beforeId)),
+            row -> {
+                sink.accept(row);
+                return true;
+            });
+    }
+    
+    // Merges matching rows of the candidate files newest first. A buffered row is emitted once no
+    // remaining file can hold anything newer, so non-overlapping files are streamed one at a time.
+    private void scan(Predicate<TransactionArchiveFile> fileFilter, Predicate<TransactionResponse> rowFilter,
+                      Predicate<TransactionResponse> sink) {
+        List<TransactionArchiveFile> candidates = files.stream().filter(fileFilter).toList();
+        PriorityQueue<TransactionResponse> pending = new PriorityQueue<>(NEWEST_FIRST);
+        for (int i = 0; i < candidates.size(); i++) {
+            for (TransactionResponse row : read(candidates.get(i))) {
+                if (rowFilter.test(row)) {
+                    pending.add(row);
+                }
+            }
+            TransactionCursor next = i + 1 < candidates.size() ? candidates.get(i + 1).getLastKey() : null;
+            while (!pending.isEmpty() && (next == null || !isBefore(pending.peek(), next.getTransactionDate(), next.getTransactionId()))) {
+                if (!sink.test(pending.poll())) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    private List<TransactionResponse> read(TransactionArchiveFile file) {
+        try {
+            return file.readRows();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read transaction archive file " + file.getPath(), e);
+        }
+    }
+    
+    private static boolean isBefore(TransactionResponse row, LocalDateTime date, Long id) {
+        int byDate = row.getTransactionDate().compareTo(date);
+        return byDate < 0 || (byDate == 0 && row.getTransactionId() < id);
+    }
+    
+    private static boolean isBefore(TransactionCursor key, LocalDateTime date, Long id) {
+        int byDate = key.getTransactionDate().compareTo(date);
+        return byDate < 0 || (byDate == 0 && key.getTransactionId() < id);
+    }
+    
+    private static long[] sortedIds(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+    
+    private static List<TransactionArchiveFile> sorted(List<TransactionArchiveFile> files) {
+        files.sort(Comparator.comparing((TransactionArchiveFile file) -> file.getLastKey().getTransactionDate())
+            .thenComparing(file -> file.getLastKey().getTransactionId())
+            .reversed());
+        return List.copyOf(files);
+    }
+}
\ No newline at end of file
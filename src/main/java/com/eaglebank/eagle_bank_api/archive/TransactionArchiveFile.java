@@ -0,0 +1,272 @@
+package com.eaglebank.eagle_bank_api.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.service.TransactionCursor;
+
+/**
+ * One gzip-compressed archive file of transactions, stored column by column: a header with the
+ * row count, the (date, id) key range and the accounts it covers, then one block per column.
+ * Ids and timestamps are delta encoded and amounts are stored as cents, so the blocks compress
+ * well. The header can be read without decoding the rows.
+ */
+final class TransactionArchiveFile {
+    
+    static final String SUFFIX = ".ebta.gz";
+    private static final int MAGIC = 0x45425441; // "EBTA"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    private final int rowCount;
+    private final TransactionCursor firstKey;
+    private final TransactionCursor lastKey;
+    private final long[] accountIds;
+    
+    private TransactionArchiveFile(Path path, int rowCount, TransactionCursor firstKey, TransactionCursor lastKey,
+                                   long[] accountIds) {
+        this.path = path;
+        this.rowCount = rowCount;
+        this.firstKey = firstKey;
+        this.lastKey = lastKey;
+        this.accountIds = accountIds;
+    }
+    
+    // Rows must be sorted oldest first by (transactionDate, transactionId)
+    static void write(Path path, List<TransactionResponse> rows) throws IOException {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Cannot archive an empty chunk");
+        }
+        TreeSet<Long> accounts = new TreeSet<>();
+        for (TransactionResponse row : rows) {
+            accounts.add(row.getAccountId());
+        }
+        long[] accountIds = accounts.stream().mapToLong(Long::longValue).toArray();
+        TransactionResponse first = rows.get(0);
+        TransactionResponse last = rows.get(rows.size() - 1);
+        
+        try (FileOutputStream file = new FileOutputStream(path.toFile());
+             GZIPOutputStream gzip = new GZIPOutputStream(file, BUFFER_SIZE);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows.size());
+            writeKey(out, first.getTransactionDate(), first.getTransactionId());
+            writeKey(out, last.getTransactionDate(), last.getTransactionId());
+            out.writeInt(accountIds.length);
+            for (long accountId : accountIds) {
+                out.writeLong(accountId);
+            }
+            
+            long previousId = 0;
+            for (TransactionResponse row : rows) {
+                out.writeLong(row.getTransactionId() - previousId);
+                previousId = row.getTransactionId();
+            }
+            for (TransactionResponse row : rows) {
+                out.writeLong(row.getAccountId());
+            }
+            long previousSecond = 0;
+            for (TransactionResponse row : rows) {
+                long second = row.getTransactionDate().toEpochSecond(ZoneOffset.UTC);
+                out.writeLong(second - previousSecond);
+                previousSecond = second;
+            }
+            for (TransactionResponse row : rows) {
+                out.writeInt(row.getTransactionDate().getNano());
+            }
+            for (TransactionResponse row : rows) {
+                out.writeByte(TransactionType.fromValue(row.getTransactionType()).ordinal());
+            }
+            for (TransactionResponse row : rows) {
+                out.writeLong(toCents(row.getAmount()));
+            }
+            for (TransactionResponse row : rows) {
+                out.writeLong(toCents(row.getBalanceAfter()));
+            }
+            for (TransactionResponse row : rows) {
+                out.writeLong(row.getCounterpartyAccountId() != null ? row.getCounterpartyAccountId() : 0L);
+            }
+            for (TransactionResponse row : rows) {
+                writeNullableString(out, row.getTransferId());
+            }
+            for (TransactionResponse row : rows) {
+                writeNullableString(out, row.getDescription());
+            }
+            out.flush();
+            gzip.finish();
+            // Make the compressed bytes durable before the caller moves the file into place
+            file.getFD().sync();
+        }
+    }
+    
+    // Decompresses only as far as the end of the header
+    static TransactionArchiveFile open(Path path) throws IOException {
+        try (DataInputStream in = openStream(path)) {
+            int rowCount = in.readInt();
+            TransactionCursor firstKey = readKey(in);
+            TransactionCursor lastKey = readKey(in);
+            long[] accountIds = new long[in.readInt()];
+            for (int i = 0; i < accountIds.length; i++) {
+                accountIds[i] = in.readLong();
+            }
+            return new TransactionArchiveFile(path, rowCount, firstKey, lastKey, accountIds);
+        }
+    }
+    
+    // Decodes every row, oldest first
+    List<TransactionResponse> readRows() throws IOException {
+        try (DataInputStream in = openStream(path)) {
+            int count = in.readInt();
+            readKey(in);
+            readKey(in);
+            int accountCount = in.readInt();
+            in.skipNBytes(8L * accountCount);
+            
+            long[] ids = new long[count];
+            long previousId = 0;
+            for (int i = 0; i < count; i++) {
+                previousId += in.readLong();
+                ids[i] = previousId;
+            }
+            long[] accounts = new long[count];
+            for (int i = 0; i < count; i++) {
+                accounts[i] = in.readLong();
+            }
+            long[] seconds = new long[count];
+            long previousSecond = 0;
+            for (int i = 0; i < count; i++) {
+                previousSecond += in.readLong();
+                seconds[i] = previousSecond;
+            }
+            int[] nanos = new int[count];
+            for (int i = 0; i < count; i++) {
+                nanos[i] = in.readInt();
+            }
+            TransactionType[] types = new TransactionType[count];
+            for (int i = 0; i < count; i++) {
+                types[i] = TransactionType.values()[in.readUnsignedByte()];
+            }
+            long[] amounts = new long[count];
+            for (int i = 0; i < count; i++) {
+                amounts[i] = in.readLong();
+            }
+            long[] balances = new long[count];
+            for (int i = 0; i < count; i++) {
+                balances[i] = in.readLong();
+            }
+            long[] counterparties = new long[count];
+            for (int i = 0; i < count; i++) {
+                counterparties[i] = in.readLong();
+            }
+            String[] transferIds = new String[count];
+            for (int i = 0; i < count; i++) {
+                transferIds[i] = readNullableString(in);
+            }
+            
+            List<TransactionResponse> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                rows.add(new TransactionResponse(
+                    ids[i],
+                    BigDecimal.valueOf(amounts[i], 2),
+                    types[i].getValue(),
+                    readNullableString(in),
+                    BigDecimal.valueOf(balances[i], 2),
+                    LocalDateTime.ofEpochSecond(seconds[i], nanos[i], ZoneOffset.UTC),
+                    accounts[i],
+                    counterparties[i] != 0 ? counterparties[i] : null,
+                    transferIds[i]));
+            }
+            return rows;
+        }
+    }
+    
+    boolean coversAnyOf(long[] sortedAccountIds) {
+        int i = 0;
+        int j = 0;
+        while (i < accountIds.length && j < sortedAccountIds.length) {
+            if (accountIds[i] == sortedAccountIds[j]) {
+                return true;
+            }
+            if (accountIds[i] < sortedAccountIds[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+    
+    private static DataInputStream openStream(Path path) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(path), BUFFER_SIZE), BUFFER_SIZE));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a transaction archive file: " + path);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+    
+    private static void writeKey(DataOutputStream out, LocalDateTime date, Long id) throws IOException {
+        out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(date.getNano());
+        out.writeLong(id);
+    }
+    
+    private static TransactionCursor readKey(DataInputStream in) throws IOException {
+        LocalDateTime date = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        return new TransactionCursor(date, in.readLong());
+    }
+    
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2).unscaledValue().longValueExact();
+    }
+    
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+    
+    Path getPath() {
+        return path;
+    }
+    
+    int getRowCount() {
+        return rowCount;
+    }
+    
+    TransactionCursor getFirstKey() {
+        return firstKey;
+    }
+    
+    TransactionCursor getLastKey() {
+        return lastKey;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.eaglebank.eagle_bank_api.archive;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+
+/**
+ * Moves transactions older than the retention period out of the transactions table. Each chunk
+ * is written to an archive file first and only then deleted from the table, so a failure in
+ * between leaves the rows in the table and the next run archives them again under the same name.
+ */
+@Component
+public class TransactionArchiveJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(TransactionArchiveJob.class);
+    
+    private final TransactionArchiveService transactionArchiveService;
+    private final TransactionArchive transactionArchive;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int deleteBatchSize;
+    
+    @Autowired
+    public TransactionArchiveJob(TransactionArchiveService transactionArchiveService,
+                                 TransactionArchive transactionArchive,
+                                 @Value("${eaglebank.transactions.archive.retention-days:365}") long retentionDays,
+                                 @Value("${eaglebank.transactions.archive.chunk-size:5000}") int chunkSize,
+                                 @Value("${eaglebank.transactions.archive.delete-batch-size:1000}") int deleteBatchSize) {
+        if (retentionDays < 1 || chunkSize < 1 || deleteBatchSize < 1) {
+            throw new IllegalArgumentException("Archive retention, chunk size and delete batch size must be positive");
+        }
+        this.transactionArchiveService = transactionArchiveService;
+        this.transactionArchive = transactionArchive;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = chunkSize;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+    
+    @Scheduled(cron = "${eaglebank.transactions.archive.cron:-}")
+    public void run() {
+        int archived = archiveExpired();
+        if (archived > 0) {
+            log.info("Archived {} transaction(s) older than {} day(s)", archived, retention.toDays());
+        }
+    }
+    
+    public int archiveExpired() {
+        return archiveBefore(LocalDateTime.now().minus(retention));
+    }
+    
+    public int archiveBefore(LocalDateTime cutoff) {
+        int total = 0;
+        List<TransactionResponse> chunk;
+        do {
+            chunk = transactionArchiveService.findArchivable(cutoff, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            transactionArchive.append(chunk);
+            total += transactionArchiveService.removeArchived(chunk, deleteBatchSize);
+        } while (chunk.size() == chunkSize);
+        return total;
+    }
+}
\ No newline at end of file
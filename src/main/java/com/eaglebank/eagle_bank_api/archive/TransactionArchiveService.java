@@ -0,0 +1,92 @@
+package com.eaglebank.eagle_bank_api.archive;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.entity.ArchivedAccountTotals;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.repository.ArchivedAccountTotalsRepository;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+
+@Service
+@Transactional
+public class TransactionArchiveService {
+    
+    private final TransactionRepository transactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final ArchivedAccountTotalsRepository archivedAccountTotalsRepository;
+    
+    @Autowired
+    public TransactionArchiveService(TransactionRepository transactionRepository,
+                                     BankAccountRepository bankAccountRepository,
+                                     ArchivedAccountTotalsRepository archivedAccountTotalsRepository) {
+        this.transactionRepository = transactionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.archivedAccountTotalsRepository = archivedAccountTotalsRepository;
+    }
+    
+    // The oldest rows posted before the cutoff, oldest first
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> findArchivable(LocalDateTime cutoff, int limit) {
+        return transactionRepository.findOlderThan(cutoff, PageRequest.of(0, limit));
+    }
+    
+    // Deletes rows that are already in an archive file, in batches of bulk DELETEs, and moves their
+    // totals to archived_account_totals in the same transaction. The affected accounts are locked in
+    // ascending ID order first, so the stats drift check never sees the rows gone but not yet counted.
+    public int removeArchived(List<TransactionResponse> rows, int deleteBatchSize) {
+        Map<Long, ArchivedAccountTotals> deltas = new TreeMap<>();
+        for (TransactionResponse row : rows) {
+            ArchivedAccountTotals delta = deltas.computeIfAbsent(row.getAccountId(), ArchivedAccountTotals::new);
+            if (TransactionType.fromValue(row.getTransactionType()).isCredit()) {
+                delta.setTotalDeposits(delta.getTotalDeposits().add(row.getAmount()));
+            } else {
+                delta.setTotalWithdrawals(delta.getTotalWithdrawals().add(row.getAmount()));
+            }
+            delta.setTransactionCount(delta.getTransactionCount() + 1);
+            if (delta.getLastActivityAt() == null || delta.getLastActivityAt().isBefore(row.getTransactionDate())) {
+                delta.setLastActivityAt(row.getTransactionDate());
+            }
+        }
+        for (Long accountId : deltas.keySet()) {
+            // Soft-deleted accounts are not found; their rows are archived all the same
+            bankAccountRepository.findByIdForUpdate(accountId);
+        }
+        
+        int deleted = 0;
+        List<Long> ids = new ArrayList<>(Math.min(deleteBatchSize, rows.size()));
+        for (TransactionResponse row : rows) {
+            ids.add(row.getTransactionId());
+            if (ids.size() == deleteBatchSize) {
+                deleted += transactionRepository.deleteByTransactionIds(ids);
+                ids.clear();
+            }
+        }
+        if (!ids.isEmpty()) {
+            deleted += transactionRepository.deleteByTransactionIds(ids);
+        }
+        
+        for (ArchivedAccountTotals delta : deltas.values()) {
+            addTotals(delta);
+        }
+        return deleted;
+    }
+    
+    private void addTotals(ArchivedAccountTotals delta) {
+        int updated = archivedAccountTotalsRepository.increment(delta.getAccountId(), delta.getTotalDeposits(),
+            delta.getTotalWithdrawals(), delta.getTransactionCount(), delta.getLastActivityAt());
+        if (updated == 0) {
+            archivedAccountTotalsRepository.save(delta);
+        }
+    }
+}
\ No newline at end of file
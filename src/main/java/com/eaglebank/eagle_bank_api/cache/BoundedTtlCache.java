@@ -0,0 +1,165 @@
+package com.eaglebank.eagle_bank_api.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Small in-process read-through cache with a size bound and a fixed time-to-live per entry.
+ * Lookups are lock-free; when the bound is exceeded the oldest inserted entries are evicted first.
+ * Null values are never cached, so a loader returning null simply reports a miss.
+ * Declared as a bean, its hit, miss and eviction counts are published as eaglebank.cache.* tagged
+ * with the cache name.
+ */
+public class BoundedTtlCache<K, V> implements MeterBinder {
+    
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry<K, V>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public BoundedTtlCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+    
+    BoundedTtlCache(String name, int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache size and TTL must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+    
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+    
+    public V getIfPresent(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt - nanoClock.getAsLong() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+    
+    public void put(K key, V value) {
+        Entry<K, V> entry = new Entry<>(key, value, nanoClock.getAsLong() + ttlNanos);
+        entries.put(key, entry);
+        insertionOrder.add(entry);
+        queued.incrementAndGet();
+        evictOverflow();
+    }
+    
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+    
+    public void invalidateAll() {
+        entries.clear();
+    }
+    
+    // The queue may also hold entries that were since replaced or invalidated; removing by identity
+    // skips those. Once such leftovers outnumber the bound they are trimmed, re-queueing live entries.
+    private void evictOverflow() {
+        while (entries.size() > maxSize || queued.get() > 2 * maxSize) {
+            Entry<K, V> oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (entries.size() > maxSize) {
+                queued.decrementAndGet();
+                if (entries.remove(oldest.key, oldest)) {
+                    evictions.increment();
+                }
+            } else if (entries.get(oldest.key) == oldest) {
+                insertionOrder.add(oldest);
+            } else {
+                queued.decrementAndGet();
+            }
+        }
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    // Read from the adders on scrape, so lookups pay nothing extra for the meters
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("eaglebank.cache.gets", this, BoundedTtlCache::getHitCount)
+            .tag("cache", name)
+            .tag("result", "hit")
+            .description("Cache lookups that found a live entry")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.cache.gets", this, BoundedTtlCache::getMissCount)
+            .tag("cache", name)
+            .tag("result", "miss")
+            .description("Cache lookups that found no live entry")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.cache.evictions", this, BoundedTtlCache::getEvictionCount)
+            .tag("cache", name)
+            .description("Entries removed because they expired or the cache was full")
+            .register(registry);
+        Gauge.builder("eaglebank.cache.size", this, BoundedTtlCache::size)
+            .tag("cache", name)
+            .description("Entries currently held")
+            .register(registry);
+    }
+    
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiresAt;
+        
+        private Entry(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
\ No newline at end of file
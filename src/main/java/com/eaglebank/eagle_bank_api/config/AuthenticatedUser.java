@@ -0,0 +1,17 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a controller parameter to the id of the authenticated user, as parsed from the
+ * X-User-Id header by {@link AuthenticationInterceptor}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuthenticatedUser {
+}
\ No newline at end of file
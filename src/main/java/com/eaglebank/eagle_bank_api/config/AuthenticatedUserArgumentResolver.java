@@ -0,0 +1,31 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
+    
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthenticatedUser.class)
+            && Long.class.equals(parameter.getParameterType());
+    }
+    
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Object userId = webRequest.getAttribute(AuthenticationInterceptor.USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (userId == null) {
+            // Only reachable if a handler is mapped outside the interceptor's path patterns
+            throw new ServletRequestBindingException("Request was not authenticated");
+        }
+        return userId;
+    }
+}
\ No newline at end of file
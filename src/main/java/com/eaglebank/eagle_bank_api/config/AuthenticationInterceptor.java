@@ -1,6 +1,9 @@
 package com.eaglebank.eagle_bank_api.config;
 
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -10,35 +13,59 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class AuthenticationInterceptor implements HandlerInterceptor {
     
+    public static final String USER_ID_HEADER = "X-User-Id";
+    
+    // The parsed X-User-Id, read back by AuthenticatedUserArgumentResolver so the header is parsed once
+    public static final String USER_ID_ATTRIBUTE = AuthenticationInterceptor.class.getName() + ".userId";
+    
+    // Error bodies never change, so they are encoded once instead of per rejected request
+    private static final byte[] AUTHENTICATION_REQUIRED =
+        "{\"message\":\"Authentication required\",\"status\":401}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID_USER_ID =
+        "{\"message\":\"Invalid user ID format\",\"status\":400}".getBytes(StandardCharsets.UTF_8);
+    
+    private static final String USERS_PATH = "/v1/users";
+    
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         // Skip authentication for POST /v1/users (user registration)
-        String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-        
-        if ("POST".equals(method) && requestURI.matches(".*/v1/users/?$")) {
+        if ("POST".equals(request.getMethod()) && isUsersCollection(request.getRequestURI())) {
             return true; // Allow user registration without authentication
         }
         
         // For all other endpoints, check for X-User-Id header (simplified authentication)
-        String userIdHeader = request.getHeader("X-User-Id");
+        String userIdHeader = request.getHeader(USER_ID_HEADER);
         
-        if (userIdHeader == null || userIdHeader.trim().isEmpty()) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"message\":\"Authentication required\",\"status\":401}");
+        if (userIdHeader == null || userIdHeader.isBlank()) {
+            writeError(response, HttpServletResponse.SC_UNAUTHORIZED, AUTHENTICATION_REQUIRED);
             return false;
         }
         
+        long userId;
         try {
-            Long.parseLong(userIdHeader);
+            userId = Long.parseLong(userIdHeader);
         } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"message\":\"Invalid user ID format\",\"status\":400}");
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, INVALID_USER_ID);
             return false;
         }
         
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
         return true;
     }
+    
+    // Same as matching ".*/v1/users/?$", without a regex
+    static boolean isUsersCollection(String uri) {
+        int end = uri.length();
+        if (end > 0 && uri.charAt(end - 1) == '/') {
+            end--;
+        }
+        return uri.startsWith(USERS_PATH, end - USERS_PATH.length());
+    }
+    
+    private void writeError(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eaglebank.eagle_bank_api.cache.BoundedTtlCache;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberResolution;
+import com.eaglebank.eagle_bank_api.entity.IdempotencyRecord;
+
+@Configuration
+public class CacheConfig {
+    
+    // accountId -> owning userId, consulted on every account-scoped request
+    @Bean
+    public BoundedTtlCache<Long, Long> accountOwnerCache(
+            @Value("${eaglebank.accounts.owner-cache.max-size:10000}") int maxSize,
+            @Value("${eaglebank.accounts.owner-cache.ttl-seconds:300}") long ttlSeconds) {
+        return new BoundedTtlCache<>("account-owner", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+    
+    // accountNumber -> accountId and owner; account numbers never change, so entries only go on delete
+    @Bean
+    public BoundedTtlCache<String, AccountNumberResolution> accountNumberCache(
+            @Value("${eaglebank.accounts.number-cache.max-size:100000}") int maxSize,
+            @Value("${eaglebank.accounts.number-cache.ttl-seconds:3600}") long ttlSeconds) {
+        return new BoundedTtlCache<>("account-number", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+    
+    // Account numbers that did not resolve, kept briefly so repeated misses skip the database
+    @Bean
+    public BoundedTtlCache<String, Boolean> unknownAccountNumberCache(
+            @Value("${eaglebank.accounts.number-cache.max-size:100000}") int maxSize,
+            @Value("${eaglebank.accounts.number-cache.negative-ttl-seconds:30}") long ttlSeconds) {
+        return new BoundedTtlCache<>("unknown-account-number", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+    
+    // userId:Idempotency-Key -> stored outcome, in front of the idempotency_keys table
+    @Bean
+    public BoundedTtlCache<String, IdempotencyRecord> idempotencyCache(
+            @Value("${eaglebank.transactions.idempotency.cache.max-size:10000}") int maxSize,
+            @Value("${eaglebank.transactions.idempotency.cache.ttl-seconds:600}") long ttlSeconds) {
+        return new BoundedTtlCache<>("idempotency", maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+}
\ No newline at end of file
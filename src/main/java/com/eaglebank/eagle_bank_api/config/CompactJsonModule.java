@@ -0,0 +1,96 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * Serializers for the two value types every response DTO carries. Amounts are written in plain
+ * notation, and dates are formatted straight into a char buffer with the same ISO-8601 output as
+ * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, without going through the formatter.
+ */
+public class CompactJsonModule extends SimpleModule {
+    
+    public CompactJsonModule() {
+        super("CompactJsonModule");
+        addSerializer(BigDecimal.class, new PlainBigDecimalSerializer());
+        addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+    }
+    
+    static final class PlainBigDecimalSerializer extends StdSerializer<BigDecimal> {
+        
+        PlainBigDecimalSerializer() {
+            super(BigDecimal.class);
+        }
+        
+        // BigDecimal caches its toString(), which is already plain for amounts; WRITE_BIGDECIMAL_AS_PLAIN
+        // would build a new toPlainString() on every write. Only exponent notation needs converting.
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(isPlain(value) ? value.toString() : value.toPlainString());
+        }
+        
+        // toString() switches to exponent notation for negative scales and below 1E-6
+        static boolean isPlain(BigDecimal value) {
+            return value.scale() >= 0 && value.precision() - value.scale() >= -5;
+        }
+    }
+    
+    static final class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+        
+        private static final int MAX_LENGTH = 29; // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        
+        IsoLocalDateTimeSerializer() {
+            super(LocalDateTime.class);
+        }
+        
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || year < 0 || year > 9999) {
+                // Arrays and signed or five-digit years stay with the Java time module
+                LocalDateTimeSerializer.INSTANCE.serialize(value, generator, provider);
+                return;
+            }
+            char[] buffer = new char[MAX_LENGTH];
+            writeDigits(buffer, 0, year, 4);
+            buffer[4] = '-';
+            writeDigits(buffer, 5, value.getMonthValue(), 2);
+            buffer[7] = '-';
+            writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+            buffer[10] = 'T';
+            writeDigits(buffer, 11, value.getHour(), 2);
+            buffer[13] = ':';
+            writeDigits(buffer, 14, value.getMinute(), 2);
+            buffer[16] = ':';
+            writeDigits(buffer, 17, value.getSecond(), 2);
+            int length = 19;
+            int nano = value.getNano();
+            if (nano != 0) {
+                // Like ISO_LOCAL_DATE_TIME: as many fraction digits as needed, trailing zeros dropped
+                buffer[19] = '.';
+                writeDigits(buffer, 20, nano, 9);
+                length = MAX_LENGTH;
+                while (buffer[length - 1] == '0') {
+                    length--;
+                }
+            }
+            generator.writeString(buffer, 0, length);
+        }
+        
+        private static void writeDigits(char[] buffer, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.dto.ConnectionPoolStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Collects Hikari's per-checkout callbacks (time spent waiting for a connection, time it was held,
+ * acquisition timeouts) in striped counters, and reads the live pool gauges from the pool MXBean.
+ * Installed on the pool by {@link DataSourcePoolConfig}, and published to Micrometer under
+ * eaglebank.db.connection.* since it replaces the tracker Boot would otherwise register.
+ */
+@Component
+public class ConnectionPoolMetrics implements MetricsTrackerFactory, MeterBinder {
+    
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder usages = new LongAdder();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+    
+    private volatile HikariDataSource dataSource;
+    
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return new Tracker();
+    }
+    
+    void bind(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    // The meters read the same adders on scrape, so checkouts pay nothing extra for them
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("eaglebank.db.connection.acquire", this,
+                metrics -> metrics.acquisitions.sum(), metrics -> metrics.acquireNanos.sum(), TimeUnit.NANOSECONDS)
+            .description("Time spent waiting for a pooled connection")
+            .register(registry);
+        Gauge.builder("eaglebank.db.connection.acquire.max", this, metrics -> metrics.maxAcquireNanos.get() / 1_000_000_000.0)
+            .baseUnit("seconds")
+            .description("Longest wait for a pooled connection since startup")
+            .register(registry);
+        FunctionTimer.builder("eaglebank.db.connection.usage", this,
+                metrics -> metrics.usages.sum(), metrics -> metrics.usageMillis.sum(), TimeUnit.MILLISECONDS)
+            .description("Time a connection was held before it was returned to the pool")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.db.connection.timeouts", this, metrics -> metrics.timeouts.sum())
+            .description("Connection requests that timed out")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.db.connection.created", this, metrics -> metrics.connectionsCreated.sum())
+            .description("Physical connections opened by the pool")
+            .register(registry);
+    }
+    
+    public ConnectionPoolStatsResponse snapshot() {
+        ConnectionPoolStatsResponse stats = new ConnectionPoolStatsResponse();
+        HikariDataSource source = dataSource;
+        if (source != null) {
+            stats.setPoolName(source.getPoolName());
+            stats.setMaximumPoolSize(source.getMaximumPoolSize());
+            stats.setMinimumIdle(source.getMinimumIdle());
+            stats.setConnectionTimeoutMs(source.getConnectionTimeout());
+            // The pool only exists after the first connection was requested
+            HikariPoolMXBean pool = source.getHikariPoolMXBean();
+            if (pool != null) {
+                stats.setActiveConnections(pool.getActiveConnections());
+                stats.setIdleConnections(pool.getIdleConnections());
+                stats.setTotalConnections(pool.getTotalConnections());
+                stats.setThreadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+            }
+        }
+        
+        long acquired = acquisitions.sum();
+        stats.setAcquisitions(acquired);
+        stats.setAverageAcquireMicros(acquired == 0 ? 0 : acquireNanos.sum() / 1_000.0 / acquired);
+        stats.setMaxAcquireMicros(maxAcquireNanos.get() / 1_000.0);
+        stats.setAcquisitionTimeouts(timeouts.sum());
+        long used = usages.sum();
+        stats.setAverageUsageMillis(used == 0 ? 0 : (double) usageMillis.sum() / used);
+        stats.setConnectionsCreated(connectionsCreated.sum());
+        return stats;
+    }
+    
+    private final class Tracker implements IMetricsTracker {
+        
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            connectionsCreated.increment();
+        }
+        
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitions.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+        }
+        
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.increment();
+            usageMillis.add(elapsedBorrowedMillis);
+        }
+        
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class DataSourcePoolConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+    
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String MINIMUM_IDLE = "spring.datasource.hikari.minimum-idle";
+    
+    // Runs before the pool is started (Hikari starts it on the first getConnection), so the metrics
+    // tracker and the pool size are in place for every connection
+    @Bean
+    public static BeanPostProcessor hikariPoolCustomizer(Environment environment,
+                                                         ObjectProvider<ConnectionPoolMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    customize(dataSource, environment, metrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+    
+    static void customize(HikariDataSource dataSource, Environment environment, ConnectionPoolMetrics metrics) {
+        dataSource.setMetricsTrackerFactory(metrics);
+        metrics.bind(dataSource);
+        
+        // An explicit maximum-pool-size always wins over the core-based size
+        if (environment.getProperty("eaglebank.datasource.pool.auto-size", Boolean.class, false)
+                && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+            int size = poolSize(Runtime.getRuntime().availableProcessors(),
+                environment.getProperty("eaglebank.datasource.pool.connections-per-core", Integer.class, 2),
+                environment.getProperty("eaglebank.datasource.pool.spindle-count", Integer.class, 1));
+            dataSource.setMaximumPoolSize(size);
+            if (!environment.containsProperty(MINIMUM_IDLE)) {
+                // A fixed-size pool never opens connections on the request path
+                dataSource.setMinimumIdle(size);
+            }
+            log.info("Sized connection pool {} to {} connections", dataSource.getPoolName(), size);
+        }
+    }
+    
+    // Hikari's rule of thumb: cores * 2 + effective spindle count. More connections than that only
+    // add contention inside the database.
+    static int poolSize(int cores, int connectionsPerCore, int spindleCount) {
+        if (connectionsPerCore < 1 || spindleCount < 0) {
+            throw new IllegalArgumentException("Connections per core must be positive and spindle count non-negative");
+        }
+        return cores * connectionsPerCore + spindleCount;
+    }
+}
\ No newline at end of file
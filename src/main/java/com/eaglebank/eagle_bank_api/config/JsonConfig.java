@@ -0,0 +1,26 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JsonConfig {
+    
+    // Boot registers Module beans with the application's ObjectMapper after the Java time module,
+    // so these serializers take precedence for BigDecimal and LocalDateTime
+    @Bean
+    public Module compactJsonModule() {
+        return new CompactJsonModule();
+    }
+    
+    // Calls DTO getters through generated lambdas instead of reflection
+    @Bean
+    @ConditionalOnProperty(name = "eaglebank.json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
\ No newline at end of file
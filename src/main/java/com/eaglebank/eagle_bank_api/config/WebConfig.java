@@ -1,7 +1,10 @@
 package com.eaglebank.eagle_bank_api.config;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,10 +12,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
     
     private final AuthenticationInterceptor authenticationInterceptor;
+    private final AuthenticatedUserArgumentResolver authenticatedUserArgumentResolver;
     
     @Autowired
-    public WebConfig(AuthenticationInterceptor authenticationInterceptor) {
+    public WebConfig(AuthenticationInterceptor authenticationInterceptor,
+                     AuthenticatedUserArgumentResolver authenticatedUserArgumentResolver) {
         this.authenticationInterceptor = authenticationInterceptor;
+        this.authenticatedUserArgumentResolver = authenticatedUserArgumentResolver;
     }
     
     @Override
@@ -21,4 +27,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/v1/**")
                 .excludePathPatterns("/h2-console/**");
     }
+    
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authenticatedUserArgumentResolver);
+    }
 }
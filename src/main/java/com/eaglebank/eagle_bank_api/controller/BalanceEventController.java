@@ -0,0 +1,37 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
+import com.eaglebank.eagle_bank_api.events.BalanceEventHub;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+
+@RestController
+@RequestMapping("/v1/accounts")
+public class BalanceEventController {
+    
+    private final BalanceEventHub balanceEventHub;
+    private final BankAccountService bankAccountService;
+    
+    @Autowired
+    public BalanceEventController(BalanceEventHub balanceEventHub, BankAccountService bankAccountService) {
+        this.balanceEventHub = balanceEventHub;
+        this.bankAccountService = bankAccountService;
+    }
+    
+    // Live balance of one account as server-sent events: the current balance first, then one event per
+    // committed change. Ownership is checked by the snapshot read, before any event is sent.
+    @GetMapping(value = "/{accountId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBalanceEvents(
+            @PathVariable Long accountId,
+            @AuthenticatedUser Long authenticatedUserId) {
+        return balanceEventHub.subscribe(accountId,
+            () -> bankAccountService.getBalanceSnapshot(accountId, authenticatedUserId));
+    }
+}
\ No newline at end of file
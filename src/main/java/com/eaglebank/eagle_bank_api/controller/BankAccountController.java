@@ -11,13 +11,19 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchResponse;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberResolution;
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
 import com.eaglebank.eagle_bank_api.dto.BankAccountCreateRequest;
 import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
 import com.eaglebank.eagle_bank_api.dto.BankAccountUpdateRequest;
+import com.eaglebank.eagle_bank_api.service.AccountNumberResolver;
 import com.eaglebank.eagle_bank_api.service.BankAccountService;
 
 import jakarta.validation.Valid;
@@ -27,39 +33,71 @@ import jakarta.validation.Valid;
 public class BankAccountController {
     
     private final BankAccountService bankAccountService;
+    private final AccountNumberResolver accountNumberResolver;
     
     @Autowired
-    public BankAccountController(BankAccountService bankAccountService) {
+    public BankAccountController(BankAccountService bankAccountService, AccountNumberResolver accountNumberResolver) {
         this.bankAccountService = bankAccountService;
+        this.accountNumberResolver = accountNumberResolver;
     }
     
     @PostMapping
     public ResponseEntity<BankAccountResponse> createBankAccount(
-            @RequestHeader("X-User-Id") Long authenticatedUserId,
+            @AuthenticatedUser Long authenticatedUserId,
             @Valid @RequestBody BankAccountCreateRequest request) {
         BankAccountResponse response = bankAccountService.createBankAccount(authenticatedUserId, request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
     
+    // The ETag is read before the accounts, so a write in between can only make the next poll refetch
     @GetMapping
     public ResponseEntity<List<BankAccountResponse>> getUserBankAccounts(
-            @RequestHeader("X-User-Id") Long authenticatedUserId) {
+            @AuthenticatedUser Long authenticatedUserId,
+            WebRequest webRequest) {
+        String eTag = bankAccountService.getUserBankAccountsETag(authenticatedUserId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         List<BankAccountResponse> response = bankAccountService.getUserBankAccounts(authenticatedUserId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
     
     @GetMapping("/{accountId}")
     public ResponseEntity<BankAccountResponse> getBankAccountById(
             @PathVariable Long accountId,
-            @RequestHeader("X-User-Id") Long authenticatedUserId) {
+            @AuthenticatedUser Long authenticatedUserId) {
         BankAccountResponse response = bankAccountService.getBankAccountById(accountId, authenticatedUserId);
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/by-number/{accountNumber}")
+    public ResponseEntity<AccountNumberResolution> resolveAccountNumber(
+            @PathVariable String accountNumber,
+            @AuthenticatedUser Long authenticatedUserId) {
+        AccountNumberResolution response = accountNumberResolver.resolve(accountNumber, authenticatedUserId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/by-number:batch")
+    public ResponseEntity<AccountNumberBatchResponse> resolveAccountNumbers(
+            @AuthenticatedUser Long authenticatedUserId,
+            @Valid @RequestBody AccountNumberBatchRequest request) {
+        AccountNumberBatchResponse response = accountNumberResolver.resolveAll(request.getAccountNumbers(), authenticatedUserId);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/{accountId}/summary")
+    public ResponseEntity<AccountSummaryResponse> getAccountSummary(
+            @PathVariable Long accountId,
+            @AuthenticatedUser Long authenticatedUserId) {
+        AccountSummaryResponse response = bankAccountService.getAccountSummary(accountId, authenticatedUserId);
+        return ResponseEntity.ok(response);
+    }
+    
     @PatchMapping("/{accountId}")
     public ResponseEntity<BankAccountResponse> updateBankAccount(
             @PathVariable Long accountId,
-            @RequestHeader("X-User-Id") Long authenticatedUserId,
+            @AuthenticatedUser Long authenticatedUserId,
             @Valid @RequestBody BankAccountUpdateRequest request) {
         BankAccountResponse response = bankAccountService.updateBankAccount(accountId, authenticatedUserId, request);
         return ResponseEntity.ok(response);
@@ -68,7 +106,7 @@ public class BankAccountController {
     @DeleteMapping("/{accountId}")
     public ResponseEntity<Void> deleteBankAccount(
             @PathVariable Long accountId,
-            @RequestHeader("X-User-Id") Long authenticatedUserId) {
+            @AuthenticatedUser Long authenticatedUserId) {
         bankAccountService.deleteBankAccount(accountId, authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
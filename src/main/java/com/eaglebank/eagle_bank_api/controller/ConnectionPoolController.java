@@ -0,0 +1,28 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eaglebank.eagle_bank_api.config.ConnectionPoolMetrics;
+import com.eaglebank.eagle_bank_api.dto.ConnectionPoolStatsResponse;
+
+// Operational endpoint, outside /v1 so it does not need an X-User-Id
+@RestController
+@RequestMapping("/internal/connection-pool")
+public class ConnectionPoolController {
+    
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+    
+    @Autowired
+    public ConnectionPoolController(ConnectionPoolMetrics connectionPoolMetrics) {
+        this.connectionPoolMetrics = connectionPoolMetrics;
+    }
+    
+    @GetMapping
+    public ResponseEntity<ConnectionPoolStatsResponse> getConnectionPoolStats() {
+        return ResponseEntity.ok(connectionPoolMetrics.snapshot());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
+import com.eaglebank.eagle_bank_api.dto.CrossAccountTransactionBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionBatchItemResult;
+import com.eaglebank.eagle_bank_api.dto.TransactionBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionBatchResponse;
+import com.eaglebank.eagle_bank_api.exception.ForbiddenException;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.service.PostingResult;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1")
+public class TransactionBatchController {
+    
+    private final TransactionService transactionService;
+    
+    @Autowired
+    public TransactionBatchController(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+    
+    @PostMapping("/accounts/{accountId}/transactions:batch")
+    public ResponseEntity<TransactionBatchResponse> createAccountTransactions(
+            @PathVariable Long accountId,
+            @AuthenticatedUser Long authenticatedUserId,
+            @Valid @RequestBody TransactionBatchRequest request) {
+        List<PostingResult> results = transactionService.postAccountBatch(accountId, authenticatedUserId, request.getTransactions());
+        return ResponseEntity.ok(toBatchResponse(results));
+    }
+    
+    @PostMapping("/transactions:batch")
+    public ResponseEntity<TransactionBatchResponse> createTransactions(
+            @AuthenticatedUser Long authenticatedUserId,
+            @Valid @RequestBody CrossAccountTransactionBatchRequest request) {
+        List<PostingResult> results = transactionService.postCrossAccountBatch(authenticatedUserId, request.getTransactions());
+        return ResponseEntity.ok(toBatchResponse(results));
+    }
+    
+    private TransactionBatchResponse toBatchResponse(List<PostingResult> results) {
+        List<TransactionBatchItemResult> items = new ArrayList<>(results.size());
+        int succeeded = 0;
+        for (int i = 0; i < results.size(); i++) {
+            PostingResult result = results.get(i);
+            if (result.isSuccess()) {
+                succeeded++;
+                items.add(new TransactionBatchItemResult(i, HttpStatus.CREATED.value(), result.getTransaction(), null));
+            } else {
+                items.add(new TransactionBatchItemResult(i, statusOf(result.getError()).value(), null, result.getError().getMessage()));
+            }
+        }
+        return new TransactionBatchResponse(succeeded, results.size() - succeeded, items);
+    }
+    
+    private HttpStatus statusOf(RuntimeException error) {
+        if (error instanceof UnprocessableEntityException) {
+            return HttpStatus.UNPROCESSABLE_ENTITY;
+        }
+        if (error instanceof ForbiddenException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        if (error instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        return HttpStatus.BAD_REQUEST;
+    }
+}
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.eaglebank.eagle_bank_api.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,11 +17,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
+import com.eaglebank.eagle_bank_api.dto.BalanceResponse;
 import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionPage;
 import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.journal.JournaledTransactionPoster;
+import com.eaglebank.eagle_bank_api.service.StripedTransactionPoster;
 import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import jakarta.validation.Valid;
 
@@ -23,34 +41,120 @@ import jakarta.validation.Valid;
 @RequestMapping("/v1/accounts")
 public class TransactionController {
     
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    
     private final TransactionService transactionService;
+    private final StripedTransactionPoster stripedPoster; // null unless striping is enabled
+    private final JournaledTransactionPoster journaledPoster; // null unless the journal is enabled
+    private final ObjectWriter ndjsonWriter;
     
     @Autowired
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+                                 ObjectProvider<StripedTransactionPoster> stripedPoster,
+                                 ObjectProvider<JournaledTransactionPoster> journaledPoster,
+                                 ObjectMapper objectMapper) {
         this.transactionService = transactionService;
+        this.stripedPoster = stripedPoster.getIfAvailable();
+        this.journaledPoster = journaledPoster.getIfAvailable();
+        this.ndjsonWriter = objectMapper.writerFor(TransactionResponse.class)
+            .without(SerializationFeature.INDENT_OUTPUT);
     }
     
     @PostMapping("/{accountId}/transactions")
     public ResponseEntity<TransactionResponse> createTransaction(
             @PathVariable Long accountId,
-            @RequestHeader("X-User-Id") Long authenticatedUserId,
+            @AuthenticatedUser Long authenticatedUserId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TransactionCreateRequest request) {
-        TransactionResponse response = transactionService.createTransaction(accountId, authenticatedUserId, request);
+        TransactionResponse response;
+        if (idempotencyKey != null) {
+            // Keyed postings skip the journal and striped poster so the key is recorded in the posting's own transaction
+            response = transactionService.createTransaction(accountId, authenticatedUserId, request, idempotencyKey);
+        } else if (journaledPoster != null) {
+            response = journaledPoster.post(accountId, authenticatedUserId, request);
+        } else if (stripedPoster != null) {
+            response = stripedPoster.post(accountId, authenticatedUserId, request);
+        } else {
+            response = transactionService.createTransaction(accountId, authenticatedUserId, request);
+        }
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
     
     @GetMapping("/{accountId}/transactions")
     public ResponseEntity<List<TransactionResponse>> getAccountTransactions(
             @PathVariable Long accountId,
-            @RequestHeader("X-User-Id") Long authenticatedUserId) {
-        List<TransactionResponse> response = transactionService.getAccountTransactions(accountId, authenticatedUserId);
-        return ResponseEntity.ok(response);
+            @AuthenticatedUser Long authenticatedUserId,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest) {
+        // Checked before the page is read, like the account list
+        String eTag = transactionService.getAccountTransactionsETag(accountId, authenticatedUserId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        TransactionPage page = transactionService.getAccountTransactions(accountId, authenticatedUserId, limit, after);
+        return toPageResponse(page, eTag);
     }
     
     @GetMapping("/transactions")
     public ResponseEntity<List<TransactionResponse>> getUserTransactions(
-            @RequestHeader("X-User-Id") Long authenticatedUserId) {
-        List<TransactionResponse> response = transactionService.getUserTransactions(authenticatedUserId);
+            @AuthenticatedUser Long authenticatedUserId,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        TransactionPage page = transactionService.getUserTransactions(authenticatedUserId, limit, after);
+        return toPageResponse(page, null);
+    }
+    
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<BalanceResponse> getBalance(
+            @PathVariable Long accountId,
+            @AuthenticatedUser Long authenticatedUserId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        BalanceResponse response = transactionService.getBalanceAsOf(
+            accountId, authenticatedUserId, asOf != null ? asOf : LocalDateTime.now());
         return ResponseEntity.ok(response);
     }
+    
+    // Streams the full history as one JSON object per line; rows are written as they are read,
+    // so memory use does not depend on how long the history is
+    @GetMapping(value = "/transactions/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUserTransactions(
+            @AuthenticatedUser Long authenticatedUserId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = ndjsonWriter.getFactory().createGenerator(outputStream);
+            try {
+                transactionService.exportUserTransactions(authenticatedUserId, from, to, transaction -> {
+                    try {
+                        ndjsonWriter.writeValue(generator, transaction);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                generator.close();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+    
+    // The body stays a plain array; the cursor for the next page travels in a header
+    private ResponseEntity<List<TransactionResponse>> toPageResponse(TransactionPage page, String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTransactions());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.dto.TransferResponse;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/v1/transfers")
+public class TransferController {
+    
+    private final TransactionService transactionService;
+    
+    @Autowired
+    public TransferController(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+    
+    @PostMapping
+    public ResponseEntity<TransferResponse> createTransfer(
+            @AuthenticatedUser Long authenticatedUserId,
+            @Valid @RequestBody TransferRequest request) {
+        TransferResponse response = transactionService.transfer(authenticatedUserId, request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+}
\ No newline at end of file
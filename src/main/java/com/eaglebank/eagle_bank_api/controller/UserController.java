@@ -9,10 +9,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.eaglebank.eagle_bank_api.config.AuthenticatedUser;
 import com.eaglebank.eagle_bank_api.dto.UserCreateRequest;
 import com.eaglebank.eagle_bank_api.dto.UserResponse;
 import com.eaglebank.eagle_bank_api.dto.UserUpdateRequest;
@@ -39,14 +39,14 @@ public class UserController {
     
     @GetMapping("/{userId}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long userId,
-                                                   @RequestHeader("X-User-Id") Long authenticatedUserId) {
+                                                   @AuthenticatedUser Long authenticatedUserId) {
         UserResponse response = userService.getUserById(userId, authenticatedUserId);
         return ResponseEntity.ok(response);
     }
     
     @PatchMapping("/{userId}")
     public ResponseEntity<UserResponse> updateUser(@PathVariable Long userId,
-                                                  @RequestHeader("X-User-Id") Long authenticatedUserId,
+                                                  @AuthenticatedUser Long authenticatedUserId,
                                                   @Valid @RequestBody UserUpdateRequest request) {
         UserResponse response = userService.updateUser(userId, authenticatedUserId, request);
         return ResponseEntity.ok(response);
@@ -54,7 +54,7 @@ public class UserController {
     
     @DeleteMapping("/{userId}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long userId,
-                                          @RequestHeader("X-User-Id") Long authenticatedUserId) {
+                                          @AuthenticatedUser Long authenticatedUserId) {
         userService.deleteUser(userId, authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
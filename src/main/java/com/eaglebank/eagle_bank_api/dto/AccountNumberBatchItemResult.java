@@ -0,0 +1,28 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+public class AccountNumberBatchItemResult {
+    private int index;
+    private int status;
+    private AccountNumberResolution account;
+    private String message;
+    
+    // Constructors
+    public AccountNumberBatchItemResult() {}
+    
+    public AccountNumberBatchItemResult(int index, int status, AccountNumberResolution account, String message) {
+        this.index = index;
+        this.status = status;
+        this.account = account;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+    public AccountNumberResolution getAccount() { return account; }
+    public void setAccount(AccountNumberResolution account) { this.account = account; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
\ No newline at end of file
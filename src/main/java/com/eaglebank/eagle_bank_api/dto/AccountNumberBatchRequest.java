@@ -0,0 +1,20 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class AccountNumberBatchRequest {
+    @NotEmpty(message = "At least one account number is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 account numbers")
+    private List<@NotBlank String> accountNumbers;
+    
+    // Constructors
+    public AccountNumberBatchRequest() {}
+    
+    // Getters and Setters
+    public List<String> getAccountNumbers() { return accountNumbers; }
+    public void setAccountNumbers(List<String> accountNumbers) { this.accountNumbers = accountNumbers; }
+}
\ No newline at end of file
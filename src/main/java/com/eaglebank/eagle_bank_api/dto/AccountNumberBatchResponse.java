@@ -0,0 +1,26 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.util.List;
+
+public class AccountNumberBatchResponse {
+    private int resolved;
+    private int unresolved;
+    private List<AccountNumberBatchItemResult> results;
+    
+    // Constructors
+    public AccountNumberBatchResponse() {}
+    
+    public AccountNumberBatchResponse(int resolved, int unresolved, List<AccountNumberBatchItemResult> results) {
+        this.resolved = resolved;
+        this.unresolved = unresolved;
+        this.results = results;
+    }
+    
+    // Getters and Setters
+    public int getResolved() { return resolved; }
+    public void setResolved(int resolved) { this.resolved = resolved; }
+    public int getUnresolved() { return unresolved; }
+    public void setUnresolved(int unresolved) { this.unresolved = unresolved; }
+    public List<AccountNumberBatchItemResult> getResults() { return results; }
+    public void setResults(List<AccountNumberBatchItemResult> results) { this.results = results; }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+public class AccountNumberResolution {
+    private String accountNumber;
+    private Long accountId;
+    private Long userId;
+    
+    // Constructors
+    public AccountNumberResolution() {}
+    
+    public AccountNumberResolution(String accountNumber, Long accountId, Long userId) {
+        this.accountNumber = accountNumber;
+        this.accountId = accountId;
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public String getAccountNumber() { return accountNumber; }
+    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+}
\ No newline at end of file
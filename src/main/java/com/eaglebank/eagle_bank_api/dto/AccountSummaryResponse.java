@@ -0,0 +1,42 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AccountSummaryResponse {
+    private Long accountId;
+    private BigDecimal balance;
+    private BigDecimal totalDeposits;
+    private BigDecimal totalWithdrawals;
+    private Long transactionCount;
+    private LocalDateTime lastActivityAt;
+    
+    // Constructors
+    public AccountSummaryResponse() {}
+    
+    // Accounts without a stats row yet (no postings) report zero totals
+    public AccountSummaryResponse(Long accountId, BigDecimal balance, BigDecimal totalDeposits,
+                                  BigDecimal totalWithdrawals, Long transactionCount,
+                                  LocalDateTime lastActivityAt) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.totalDeposits = totalDeposits != null ? totalDeposits : BigDecimal.ZERO;
+        this.totalWithdrawals = totalWithdrawals != null ? totalWithdrawals : BigDecimal.ZERO;
+        this.transactionCount = transactionCount != null ? transactionCount : 0L;
+        this.lastActivityAt = lastActivityAt;
+    }
+    
+    // Getters and Setters
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+    public BigDecimal getTotalDeposits() { return totalDeposits; }
+    public void setTotalDeposits(BigDecimal totalDeposits) { this.totalDeposits = totalDeposits; }
+    public BigDecimal getTotalWithdrawals() { return totalWithdrawals; }
+    public void setTotalWithdrawals(BigDecimal totalWithdrawals) { this.totalWithdrawals = totalWithdrawals; }
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+    public LocalDateTime getLastActivityAt() { return lastActivityAt; }
+    public void setLastActivityAt(LocalDateTime lastActivityAt) { this.lastActivityAt = lastActivityAt; }
+}
\ No newline at end of file
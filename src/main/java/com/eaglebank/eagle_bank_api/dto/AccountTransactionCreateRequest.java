@@ -0,0 +1,15 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class AccountTransactionCreateRequest extends TransactionCreateRequest {
+    @NotNull(message = "Account ID is required")
+    private Long accountId;
+    
+    // Constructors
+    public AccountTransactionCreateRequest() {}
+    
+    // Getters and Setters
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+}
\ No newline at end of file
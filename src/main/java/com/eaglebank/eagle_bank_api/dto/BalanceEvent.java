@@ -0,0 +1,31 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class BalanceEvent {
+    private Long accountId;
+    private BigDecimal balance;
+    private Long transactionId;
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public BalanceEvent() {}
+    
+    public BalanceEvent(Long accountId, BigDecimal balance, Long transactionId, LocalDateTime updatedAt) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.transactionId = transactionId;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters and Setters
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+    public Long getTransactionId() { return transactionId; }
+    public void setTransactionId(Long transactionId) { this.transactionId = transactionId; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
\ No newline at end of file
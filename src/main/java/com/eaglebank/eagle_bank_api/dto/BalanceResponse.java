@@ -0,0 +1,27 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class BalanceResponse {
+    private Long accountId;
+    private BigDecimal balance;
+    private LocalDateTime asOf;
+    
+    // Constructors
+    public BalanceResponse() {}
+    
+    public BalanceResponse(Long accountId, BigDecimal balance, LocalDateTime asOf) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.asOf = asOf;
+    }
+    
+    // Getters and Setters
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+    public LocalDateTime getAsOf() { return asOf; }
+    public void setAsOf(LocalDateTime asOf) { this.asOf = asOf; }
+}
\ No newline at end of file
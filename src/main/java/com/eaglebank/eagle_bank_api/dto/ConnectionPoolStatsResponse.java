@@ -0,0 +1,51 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+public class ConnectionPoolStatsResponse {
+    private String poolName;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private long connectionTimeoutMs;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+    private long acquisitions;
+    private double averageAcquireMicros;
+    private double maxAcquireMicros;
+    private long acquisitionTimeouts;
+    private double averageUsageMillis;
+    private long connectionsCreated;
+    
+    // Constructors
+    public ConnectionPoolStatsResponse() {}
+    
+    // Getters and Setters
+    public String getPoolName() { return poolName; }
+    public void setPoolName(String poolName) { this.poolName = poolName; }
+    public int getMaximumPoolSize() { return maximumPoolSize; }
+    public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+    public int getMinimumIdle() { return minimumIdle; }
+    public void setMinimumIdle(int minimumIdle) { this.minimumIdle = minimumIdle; }
+    public long getConnectionTimeoutMs() { return connectionTimeoutMs; }
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) { this.connectionTimeoutMs = connectionTimeoutMs; }
+    public int getActiveConnections() { return activeConnections; }
+    public void setActiveConnections(int activeConnections) { this.activeConnections = activeConnections; }
+    public int getIdleConnections() { return idleConnections; }
+    public void setIdleConnections(int idleConnections) { this.idleConnections = idleConnections; }
+    public int getTotalConnections() { return totalConnections; }
+    public void setTotalConnections(int totalConnections) { this.totalConnections = totalConnections; }
+    public int getThreadsAwaitingConnection() { return threadsAwaitingConnection; }
+    public void setThreadsAwaitingConnection(int threadsAwaitingConnection) { this.threadsAwaitingConnection = threadsAwaitingConnection; }
+    public long getAcquisitions() { return acquisitions; }
+    public void setAcquisitions(long acquisitions) { this.acquisitions = acquisitions; }
+    public double getAverageAcquireMicros() { return averageAcquireMicros; }
+    public void setAverageAcquireMicros(double averageAcquireMicros) { this.averageAcquireMicros = averageAcquireMicros; }
+    public double getMaxAcquireMicros() { return maxAcquireMicros; }
+    public void setMaxAcquireMicros(double maxAcquireMicros) { this.maxAcquireMicros = maxAcquireMicros; }
+    public long getAcquisitionTimeouts() { return acquisitionTimeouts; }
+    public void setAcquisitionTimeouts(long acquisitionTimeouts) { this.acquisitionTimeouts = acquisitionTimeouts; }
+    public double getAverageUsageMillis() { return averageUsageMillis; }
+    public void setAverageUsageMillis(double averageUsageMillis) { this.averageUsageMillis = averageUsageMillis; }
+    public long getConnectionsCreated() { return connectionsCreated; }
+    public void setConnectionsCreated(long connectionsCreated) { this.connectionsCreated = connectionsCreated; }
+}
\ No newline at end of file
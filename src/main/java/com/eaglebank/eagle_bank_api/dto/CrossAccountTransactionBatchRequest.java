@@ -0,0 +1,20 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class CrossAccountTransactionBatchRequest {
+    @NotEmpty(message = "At least one transaction is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 transactions")
+    private List<@Valid AccountTransactionCreateRequest> transactions;
+    
+    // Constructors
+    public CrossAccountTransactionBatchRequest() {}
+    
+    // Getters and Setters
+    public List<AccountTransactionCreateRequest> getTransactions() { return transactions; }
+    public void setTransactions(List<AccountTransactionCreateRequest> transactions) { this.transactions = transactions; }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class ResourceVersion {
+    private Long sequence;
+    private LocalDateTime lastModified;
+    private Long count;
+    private Long revision;
+    
+    // Constructors
+    public ResourceVersion() {}
+    
+    public ResourceVersion(Long sequence, LocalDateTime lastModified) {
+        this.sequence = sequence;
+        this.lastModified = lastModified;
+    }
+    
+    // For collections whose rows carry a version that only goes up: a timestamp taken before the row
+    // lock can commit after a later one, so it cannot tell the poller that a row changed
+    public ResourceVersion(Long sequence, Long count, Long revision) {
+        this.sequence = sequence;
+        this.count = count;
+        this.revision = revision;
+    }
+    
+    // Weak, since the same version is served gzipped and uncompressed (Tomcat also leaves responses
+    // with a strong ETag uncompressed)
+    public String toETag(String resource) {
+        String tag = resource + "-" + (sequence == null ? 0 : sequence);
+        if (revision != null) {
+            tag += "-" + count + "-" + revision;
+        } else {
+            long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+            tag += "-" + micros;
+        }
+        return "W/\"" + tag + "\"";
+    }
+    
+    // Getters and Setters
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+    public LocalDateTime getLastModified() { return lastModified; }
+    public void setLastModified(LocalDateTime lastModified) { this.lastModified = lastModified; }
+    public Long getCount() { return count; }
+    public void setCount(Long count) { this.count = count; }
+    public Long getRevision() { return revision; }
+    public void setRevision(Long revision) { this.revision = revision; }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+public class TransactionBatchItemResult {
+    private int index;
+    private int status;
+    private TransactionResponse transaction;
+    private String message;
+    
+    // Constructors
+    public TransactionBatchItemResult() {}
+    
+    public TransactionBatchItemResult(int index, int status, TransactionResponse transaction, String message) {
+        this.index = index;
+        this.status = status;
+        this.transaction = transaction;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+    public TransactionResponse getTransaction() { return transaction; }
+    public void setTransaction(TransactionResponse transaction) { this.transaction = transaction; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.util.List;
+
+public class TransactionBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<TransactionBatchItemResult> results;
+    
+    // Constructors
+    public TransactionBatchResponse() {}
+    
+    public TransactionBatchResponse(int succeeded, int failed, List<TransactionBatchItemResult> results) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+    
+    // Getters and Setters
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<TransactionBatchItemResult> getResults() { return results; }
+    public void setResults(List<TransactionBatchItemResult> results) { this.results = results; }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.util.List;
+
+public class TransactionPage {
+    private List<TransactionResponse> transactions;
+    private String nextCursor;
+    
+    // Constructors
+    public TransactionPage() {}
+    
+    public TransactionPage(List<TransactionResponse> transactions, String nextCursor) {
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<TransactionResponse> getTransactions() { return transactions; }
+    public void setTransactions(List<TransactionResponse> transactions) { this.transactions = transactions; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
\ No newline at end of file
@@ -11,12 +11,14 @@ public class TransactionResponse {
     private BigDecimal balanceAfter;
     private LocalDateTime transactionDate;
     private Long accountId;
+    private Long counterpartyAccountId;
+    private String transferId;
     
     // Constructors
     public TransactionResponse() {}
     
     public TransactionResponse(Long transactionId, BigDecimal amount, String transactionType,
-                              String description, BigDecimal balanceAfter, 
+                              String description, BigDecimal balanceAfter,
                               LocalDateTime transactionDate, Long accountId) {
         this.transactionId = transactionId;
         this.amount = amount;
@@ -27,6 +29,15 @@ public class TransactionResponse {
         this.accountId = accountId;
     }
     
+    public TransactionResponse(Long transactionId, BigDecimal amount, String transactionType,
+                              String description, BigDecimal balanceAfter,
+                              LocalDateTime transactionDate, Long accountId,
+                              Long counterpartyAccountId, String transferId) {
+        this(transactionId, amount, transactionType, description, balanceAfter, transactionDate, accountId);
+        this.counterpartyAccountId = counterpartyAccountId;
+        this.transferId = transferId;
+    }
+    
     // Getters and Setters
     public Long getTransactionId() { return transactionId; }
     public void setTransactionId(Long transactionId) { this.transactionId = transactionId; }
@@ -42,4 +53,8 @@ public class TransactionResponse {
     public void setTransactionDate(LocalDateTime transactionDate) { this.transactionDate = transactionDate; }
     public Long getAccountId() { return accountId; }
     public void setAccountId(Long accountId) { this.accountId = accountId; }
+    public Long getCounterpartyAccountId() { return counterpartyAccountId; }
+    public void setCounterpartyAccountId(Long counterpartyAccountId) { this.counterpartyAccountId = counterpartyAccountId; }
+    public String getTransferId() { return transferId; }
+    public void setTransferId(String transferId) { this.transferId = transferId; }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public class TransferRequest {
+    @NotNull(message = "Source account ID is required")
+    private Long fromAccountId;
+    
+    @NotNull(message = "Destination account ID is required")
+    private Long toAccountId;
+    
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    private BigDecimal amount;
+    
+    private String description;
+    
+    // Constructors
+    public TransferRequest() {}
+    
+    // Getters and Setters
+    public Long getFromAccountId() { return fromAccountId; }
+    public void setFromAccountId(Long fromAccountId) { this.fromAccountId = fromAccountId; }
+    public Long getToAccountId() { return toAccountId; }
+    public void setToAccountId(Long toAccountId) { this.toAccountId = toAccountId; }
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.eaglebank.eagle_bank_api.dto;
+
+public class TransferResponse {
+    private String transferId;
+    private TransactionResponse debit;
+    private TransactionResponse credit;
+    
+    // Constructors
+    public TransferResponse() {}
+    
+    public TransferResponse(String transferId, TransactionResponse debit, TransactionResponse credit) {
+        this.transferId = transferId;
+        this.debit = debit;
+        this.credit = credit;
+    }
+    
+    // Getters and Setters
+    public String getTransferId() { return transferId; }
+    public void setTransferId(String transferId) { this.transferId = transferId; }
+    public TransactionResponse getDebit() { return debit; }
+    public void setDebit(TransactionResponse debit) { this.debit = debit; }
+    public TransactionResponse getCredit() { return credit; }
+    public void setCredit(TransactionResponse credit) { this.credit = credit; }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.eaglebank.eagle_bank_api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Running totals of an account's transactions, maintained in the same database transaction as
+ * every posting so summaries never have to scan the transactions table.
+ */
+@Entity
+@Table(name = "account_stats")
+public class AccountStats {
+    
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+    
+    @Column(name = "total_deposits", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDeposits;
+    
+    @Column(name = "total_withdrawals", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalWithdrawals;
+    
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+    
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+    
+    // Constructors
+    public AccountStats() {}
+    
+    public AccountStats(Long accountId, BigDecimal totalDeposits, BigDecimal totalWithdrawals,
+                        Long transactionCount, LocalDateTime lastActivityAt) {
+        this.accountId = accountId;
+        this.totalDeposits = totalDeposits;
+        this.totalWithdrawals = totalWithdrawals;
+        this.transactionCount = transactionCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+    
+    public static AccountStats empty(Long accountId) {
+        return new AccountStats(accountId, BigDecimal.ZERO, BigDecimal.ZERO, 0L, null);
+    }
+    
+    // Compares the totals only, ignoring scale differences between computed and stored amounts
+    public boolean sameTotalsAs(AccountStats other) {
+        return totalDeposits.compareTo(other.totalDeposits) == 0
+            && totalWithdrawals.compareTo(other.totalWithdrawals) == 0
+            && transactionCount.equals(other.transactionCount)
+            && (lastActivityAt == null ? other.lastActivityAt == null : lastActivityAt.equals(other.lastActivityAt));
+    }
+    
+    // Getters and Setters
+    public Long getAccountId() {
+        return accountId;
+    }
+    
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+    
+    public BigDecimal getTotalDeposits() {
+        return totalDeposits;
+    }
+    
+    public void setTotalDeposits(BigDecimal totalDeposits) {
+        this.totalDeposits = totalDeposits;
+    }
+    
+    public BigDecimal getTotalWithdrawals() {
+        return totalWithdrawals;
+    }
+    
+    public void setTotalWithdrawals(BigDecimal totalWithdrawals) {
+        this.totalWithdrawals = totalWithdrawals;
+    }
+    
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+    
+    public void setTransactionCount(Long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+    
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+    
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
\ No newline at end of file
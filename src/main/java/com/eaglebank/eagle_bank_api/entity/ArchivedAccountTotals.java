@@ -0,0 +1,95 @@
+package com.eaglebank.eagle_bank_api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Totals of an account's transactions that were moved out of the transactions table into archive
+ * files. The stats drift check adds them to what it aggregates from the table.
+ */
+@Entity
+@Table(name = "archived_account_totals")
+public class ArchivedAccountTotals {
+    
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+    
+    @Column(name = "total_deposits", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDeposits;
+    
+    @Column(name = "total_withdrawals", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalWithdrawals;
+    
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+    
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+    
+    // Constructors
+    public ArchivedAccountTotals() {}
+    
+    public ArchivedAccountTotals(Long accountId) {
+        this.accountId = accountId;
+        this.totalDeposits = BigDecimal.ZERO;
+        this.totalWithdrawals = BigDecimal.ZERO;
+        this.transactionCount = 0L;
+    }
+    
+    // Archived rows are all older than the remaining ones, so the latest activity comes from the table
+    // unless it has none left
+    public AccountStats addTo(AccountStats stats) {
+        return new AccountStats(stats.getAccountId(),
+            stats.getTotalDeposits().add(totalDeposits),
+            stats.getTotalWithdrawals().add(totalWithdrawals),
+            stats.getTransactionCount() + transactionCount,
+            stats.getLastActivityAt() != null ? stats.getLastActivityAt() : lastActivityAt);
+    }
+    
+    // Getters and Setters
+    public Long getAccountId() {
+        return accountId;
+    }
+    
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+    
+    public BigDecimal getTotalDeposits() {
+        return totalDeposits;
+    }
+    
+    public void setTotalDeposits(BigDecimal totalDeposits) {
+        this.totalDeposits = totalDeposits;
+    }
+    
+    public BigDecimal getTotalWithdrawals() {
+        return totalWithdrawals;
+    }
+    
+    public void setTotalWithdrawals(BigDecimal totalWithdrawals) {
+        this.totalWithdrawals = totalWithdrawals;
+    }
+    
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+    
+    public void setTransactionCount(Long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+    
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+    
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
\ No newline at end of file
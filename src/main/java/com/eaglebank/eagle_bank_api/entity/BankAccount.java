@@ -4,30 +4,41 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import jakarta.persistence.CascadeType;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "bank_accounts")
+@Table(name = "bank_accounts", indexes = {
+    @Index(name = "idx_bank_accounts_user", columnList = "user_id")
+})
+// Deleted accounts keep their row (and history) but are invisible to every query
+@SQLRestriction("deleted_at IS NULL")
 public class BankAccount {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "bank_accounts_seq")
+    @GenericGenerator(name = "bank_accounts_seq", type = PooledLoSequenceGenerator.class,
+                      parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "bank_accounts_seq"))
     private Long accountId;
     
     @NotBlank(message = "Account name is required")
@@ -53,20 +64,24 @@ public class BankAccount {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
-    @OneToMany(mappedBy = "bankAccount", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "bankAccount", fetch = FetchType.LAZY)
     private List<Transaction> transactions;
     
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (accountNumber == null) {
-            accountNumber = generateAccountNumber();
-        }
     }
     
     @PreUpdate
@@ -74,10 +89,6 @@ public class BankAccount {
         updatedAt = LocalDateTime.now();
     }
     
-    private String generateAccountNumber() {
-        return "EB" + System.currentTimeMillis() + (int)(Math.random() * 1000);
-    }
-    
     // Constructors
     public BankAccount() {}
     
@@ -145,6 +156,22 @@ public class BankAccount {
         this.updatedAt = updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
     public User getUser() {
         return user;
     }
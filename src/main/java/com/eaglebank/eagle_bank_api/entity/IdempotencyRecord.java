@@ -0,0 +1,183 @@
+package com.eaglebank.eagle_bank_api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/**
+ * The stored outcome of a transaction request sent with an Idempotency-Key. The key is scoped to
+ * the user, and the response is kept alongside it so a replay is answered from this row alone.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    // Supports the batched expiry: WHERE created_at < ? ORDER BY created_at
+    @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+    
+    @Id
+    @Column(name = "scoped_key", length = 300)
+    private String scopedKey; // userId:Idempotency-Key
+    
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+    
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+    
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+    
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+    
+    @Column(name = "transaction_type", nullable = false)
+    private String transactionType;
+    
+    @Column(name = "description")
+    private String description;
+    
+    @Column(name = "balance_after", nullable = false, precision = 19, scale = 2)
+    private BigDecimal balanceAfter;
+    
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Keys are assigned, so without this save() would merge and SELECT first; a new record is always
+    // persisted, and a concurrent duplicate fails on the primary key instead
+    @Transient
+    private boolean isNew = true;
+    
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        isNew = false;
+    }
+    
+    // Constructors
+    public IdempotencyRecord() {}
+    
+    public IdempotencyRecord(String scopedKey, String requestHash, TransactionResponse response) {
+        this.scopedKey = scopedKey;
+        this.requestHash = requestHash;
+        this.transactionId = response.getTransactionId();
+        this.accountId = response.getAccountId();
+        this.amount = response.getAmount();
+        this.transactionType = response.getTransactionType();
+        this.description = response.getDescription();
+        this.balanceAfter = response.getBalanceAfter();
+        this.transactionDate = response.getTransactionDate();
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public TransactionResponse toResponse() {
+        return new TransactionResponse(transactionId, amount, transactionType, description,
+            balanceAfter, transactionDate, accountId);
+    }
+    
+    @Override
+    public String getId() {
+        return scopedKey;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    // Getters and Setters
+    public String getScopedKey() {
+        return scopedKey;
+    }
+    
+    public void setScopedKey(String scopedKey) {
+        this.scopedKey = scopedKey;
+    }
+    
+    public String getRequestHash() {
+        return requestHash;
+    }
+    
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+    
+    public Long getTransactionId() {
+        return transactionId;
+    }
+    
+    public void setTransactionId(Long transactionId) {
+        this.transactionId = transactionId;
+    }
+    
+    public Long getAccountId() {
+        return accountId;
+    }
+    
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+    
+    public BigDecimal getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+    
+    public String getTransactionType() {
+        return transactionType;
+    }
+    
+    public void setTransactionType(String transactionType) {
+        this.transactionType = transactionType;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public BigDecimal getBalanceAfter() {
+        return balanceAfter;
+    }
+    
+    public void setBalanceAfter(BigDecimal balanceAfter) {
+        this.balanceAfter = balanceAfter;
+    }
+    
+    public LocalDateTime getTransactionDate() {
+        return transactionDate;
+    }
+    
+    public void setTransactionDate(LocalDateTime transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
\ No newline at end of file
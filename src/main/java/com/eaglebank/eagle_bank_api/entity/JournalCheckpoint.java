@@ -0,0 +1,47 @@
+package com.eaglebank.eagle_bank_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Highest journal sequence whose posting has been projected into the tables. It is updated in
+ * the same database transaction as the projected rows, so replay resumes exactly after it.
+ */
+@Entity
+@Table(name = "journal_checkpoints")
+public class JournalCheckpoint {
+    
+    @Id
+    @Column(name = "journal_name", length = 50)
+    private String journalName;
+    
+    @Column(name = "applied_sequence", nullable = false)
+    private Long appliedSequence;
+    
+    // Constructors
+    public JournalCheckpoint() {}
+    
+    public JournalCheckpoint(String journalName, Long appliedSequence) {
+        this.journalName = journalName;
+        this.appliedSequence = appliedSequence;
+    }
+    
+    // Getters and Setters
+    public String getJournalName() {
+        return journalName;
+    }
+    
+    public void setJournalName(String journalName) {
+        this.journalName = journalName;
+    }
+    
+    public Long getAppliedSequence() {
+        return appliedSequence;
+    }
+    
+    public void setAppliedSequence(Long appliedSequence) {
+        this.appliedSequence = appliedSequence;
+    }
+}
\ No newline at end of file
@@ -3,12 +3,16 @@ package com.eaglebank.eagle_bank_api.entity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -18,11 +22,17 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    // Supports keyset pagination of account history: WHERE account_id = ? ORDER BY date DESC, id DESC
+    @Index(name = "idx_transactions_account_date_id", columnList = "account_id, transaction_date, transaction_id"),
+    @Index(name = "idx_transactions_date_id", columnList = "transaction_date, transaction_id")
+})
 public class Transaction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "transactions_seq")
+    @GenericGenerator(name = "transactions_seq", type = PooledLoSequenceGenerator.class,
+                      parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "transactions_seq"))
     private Long transactionId;
     
     @NotNull(message = "Amount is required")
@@ -32,7 +42,7 @@ public class Transaction {
     
     @NotBlank(message = "Transaction type is required")
     @Column(name = "transaction_type", nullable = false)
-    private String transactionType; // DEPOSIT or WITHDRAWAL
+    private String transactionType; // DEPOSIT, WITHDRAWAL, TRANSFER_IN or TRANSFER_OUT
     
     @Column(name = "description")
     private String description;
@@ -47,6 +57,13 @@ public class Transaction {
     @JoinColumn(name = "account_id", nullable = false)
     private BankAccount bankAccount;
     
+    // Set on both legs of a transfer; plain columns so deleting one account keeps the other's history intact
+    @Column(name = "counterparty_account_id")
+    private Long counterpartyAccountId;
+    
+    @Column(name = "transfer_id", length = 36)
+    private String transferId;
+    
     @PrePersist
     protected void onCreate() {
         transactionDate = LocalDateTime.now();
@@ -55,7 +72,7 @@ public class Transaction {
     // Constructors
     public Transaction() {}
     
-    public Transaction(BigDecimal amount, String transactionType, String description, 
+    public Transaction(BigDecimal amount, String transactionType, String description,
                       BigDecimal balanceAfter, BankAccount bankAccount) {
         this.amount = amount;
         this.transactionType = transactionType;
@@ -120,4 +137,20 @@ public class Transaction {
     public void setBankAccount(BankAccount bankAccount) {
         this.bankAccount = bankAccount;
     }
+    
+    public Long getCounterpartyAccountId() {
+        return counterpartyAccountId;
+    }
+    
+    public void setCounterpartyAccountId(Long counterpartyAccountId) {
+        this.counterpartyAccountId = counterpartyAccountId;
+    }
+    
+    public String getTransferId() {
+        return transferId;
+    }
+    
+    public void setTransferId(String transferId) {
+        this.transferId = transferId;
+    }
 }
\ No newline at end of file
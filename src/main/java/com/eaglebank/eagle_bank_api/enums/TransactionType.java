@@ -2,7 +2,9 @@ package com.eaglebank.eagle_bank_api.enums;
 
 public enum TransactionType {
     DEPOSIT("DEPOSIT"),
-    WITHDRAWAL("WITHDRAWAL");
+    WITHDRAWAL("WITHDRAWAL"),
+    TRANSFER_IN("TRANSFER_IN"),
+    TRANSFER_OUT("TRANSFER_OUT");
     
     private final String value;
     
@@ -14,6 +16,11 @@ public enum TransactionType {
         return value;
     }
     
+    // Whether the posting adds to the account's balance
+    public boolean isCredit() {
+        return this == DEPOSIT || this == TRANSFER_IN;
+    }
+    
     public static TransactionType fromValue(String value) {
         for (TransactionType type : TransactionType.values()) {
             if (type.value.equalsIgnoreCase(value)) {
@@ -0,0 +1,335 @@
+package com.eaglebank.eagle_bank_api.events;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Fans committed balance changes out to the server-sent event streams of each account. Accounts
+ * with subscribers have one channel in memory; every subscriber owns a bounded buffer that a small
+ * dispatcher pool writes to its connection, so an open stream holds no thread while it is idle.
+ * A subscriber whose buffer fills up cannot keep up and is disconnected; on reconnect it starts
+ * again from a fresh snapshot.
+ */
+@Component
+public class BalanceEventHub implements MeterBinder, DisposableBean {
+    
+    // Queue markers: a keep-alive comment, and the end of a stream dropped for falling behind
+    private static final OutboundEvent HEARTBEAT = new OutboundEvent(0, null, null);
+    private static final OutboundEvent DISCONNECT = new OutboundEvent(0, null, null);
+    // Writes per turn on a dispatcher thread before the subscriber goes to the back of the pool queue
+    private static final int MAX_SENDS_PER_TURN = 16;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+    
+    // Each channel's subscriber set is only read or changed inside compute calls on its account id
+    private final ConcurrentHashMap<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final ExecutorService dispatchers;
+    private final ObjectWriter writer;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    
+    @Autowired
+    public BalanceEventHub(@Value("${eaglebank.events.buffer-size:32}") int bufferSize,
+                           @Value("${eaglebank.events.dispatch-threads:4}") int dispatchThreads,
+                           @Value("${eaglebank.events.timeout-ms:1800000}") long timeoutMillis,
+                           ObjectMapper objectMapper) {
+        this(bufferSize, timeoutMillis, Executors.newFixedThreadPool(dispatchThreads, new DispatcherThreadFactory()),
+            objectMapper);
+    }
+    
+    BalanceEventHub(int bufferSize, long timeoutMillis, ExecutorService dispatchers, ObjectMapper objectMapper) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Event buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.dispatchers = dispatchers;
+        // An SSE data field ends at a line break, so events are always written on one line
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+    
+    // The subscriber is registered before the snapshot is read, so no change committed in between is
+    // missed; changes the snapshot already includes are recognized by transaction id and skipped
+    public SseEmitter subscribe(Long accountId, Supplier<BalanceEvent> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(accountId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        
+        channels.compute(accountId, (id, subscribers) -> {
+            Set<Subscriber> channel = subscribers != null ? subscribers : new LinkedHashSet<>();
+            channel.add(subscriber);
+            subscriberCount.incrementAndGet();
+            return channel;
+        });
+        BalanceEvent initial;
+        try {
+            initial = snapshot.get();
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        start(subscriber, initial);
+        return emitter;
+    }
+    
+    // Only committed postings reach the streams; a rolled-back transaction publishes nothing
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBalanceChange(BalanceEvent event) {
+        published.increment();
+        if (channels.containsKey(event.getAccountId())) {
+            // Serialized once for every subscriber of the account
+            OutboundEvent outbound = serialize(event);
+            channels.computeIfPresent(event.getAccountId(), (accountId, subscribers) -> fanOut(subscribers, outbound));
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${eaglebank.events.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        for (Long accountId : channels.keySet()) {
+            channels.computeIfPresent(accountId, (id, subscribers) -> fanOut(subscribers, HEARTBEAT));
+        }
+    }
+    
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+    
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eaglebank.events.subscribers", subscriberCount, AtomicInteger::get)
+            .description("Open balance event streams")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.events.published", published, LongAdder::sum)
+            .description("Committed balance changes handed to the event hub")
+            .register(registry);
+        FunctionCounter.builder("eaglebank.events.dropped", dropped, LongAdder::sum)
+            .description("Event streams disconnected because their buffer was full")
+            .register(registry);
+    }
+    
+    @Override
+    public void destroy() throws InterruptedException {
+        for (Long accountId : channels.keySet()) {
+            Set<Subscriber> subscribers = channels.remove(accountId);
+            if (subscribers != null) {
+                subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            }
+        }
+        dispatchers.shutdown();
+        if (!dispatchers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            dispatchers.shutdownNow();
+        }
+    }
+    
+    // Runs inside the channel's compute; returns null once the last subscriber is gone
+    private Set<Subscriber> fanOut(Set<Subscriber> subscribers, OutboundEvent event) {
+        Iterator<Subscriber> iterator = subscribers.iterator();
+        while (iterator.hasNext()) {
+            Subscriber subscriber = iterator.next();
+            if (!enqueue(subscriber, event)) {
+                iterator.remove();
+                subscriberCount.decrementAndGet();
+            }
+        }
+        return subscribers.isEmpty() ? null : subscribers;
+    }
+    
+    // Only the latest balance matters, so an event older than one already queued or sent is skipped.
+    // Every writer assigns an account's transaction ids while holding that account's lock, so a
+    // higher id always carries the later balance.
+    // Returns false if the buffer was full and the subscriber has been cut off.
+    private boolean enqueue(Subscriber subscriber, OutboundEvent event) {
+        if (event != HEARTBEAT) {
+            if (event.transactionId <= subscriber.lastTransactionId) {
+                return true;
+            }
+            subscriber.lastTransactionId = event.transactionId;
+        }
+        if (!subscriber.queue.offer(event)) {
+            dropped.increment();
+            subscriber.queue.clear();
+            subscriber.queue.offer(DISCONNECT);
+            schedule(subscriber);
+            return false;
+        }
+        schedule(subscriber);
+        return true;
+    }
+    
+    private void start(Subscriber subscriber, BalanceEvent initial) {
+        OutboundEvent snapshot = serialize(initial);
+        channels.computeIfPresent(subscriber.accountId, (accountId, subscribers) -> {
+            if (subscribers.contains(subscriber)) {
+                subscriber.lastTransactionId = Math.max(subscriber.lastTransactionId, snapshot.transactionId);
+                subscriber.queue.removeIf(event -> event == HEARTBEAT || event.transactionId <= snapshot.transactionId);
+                // Anything still queued committed after the snapshot and already carries a newer balance
+                if (subscriber.queue.isEmpty()) {
+                    subscriber.queue.offer(snapshot);
+                }
+            }
+            return subscribers;
+        });
+        subscriber.started = true;
+        schedule(subscriber);
+    }
+    
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.started && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatchers.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down; destroy() completes the remaining streams
+                subscriber.draining.set(false);
+            }
+        }
+    }
+    
+    // Re-checks the queue after clearing the flag, so an event queued during the last write is not stranded
+    private void drain(Subscriber subscriber) {
+        try {
+            for (int sent = 0; sent < MAX_SENDS_PER_TURN; sent++) {
+                OutboundEvent event = subscriber.queue.poll();
+                if (event == null) {
+                    break;
+                }
+                if (event == DISCONNECT) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (!send(subscriber, event)) {
+                    return;
+                }
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+    
+    private boolean send(Subscriber subscriber, OutboundEvent event) {
+        try {
+            if (event == HEARTBEAT) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name("balance")
+                    .data(event.data, MediaType.APPLICATION_JSON);
+                if (event.id != null) {
+                    builder.id(event.id);
+                }
+                subscriber.emitter.send(builder);
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone away (the container reports the error) or the stream already completed
+            remove(subscriber);
+            return false;
+        }
+    }
+    
+    private OutboundEvent serialize(BalanceEvent event) {
+        Long transactionId = event.getTransactionId();
+        try {
+            return new OutboundEvent(transactionId != null ? transactionId : 0,
+                transactionId != null ? transactionId.toString() : null, writer.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize balance event for account " + event.getAccountId(), e);
+        }
+    }
+    
+    private void remove(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.accountId, (accountId, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    private static final class Subscriber {
+        private final Long accountId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<OutboundEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean started;
+        // Guarded by the channel's compute, like the subscriber set
+        private long lastTransactionId = -1;
+        
+        private Subscriber(Long accountId, SseEmitter emitter, int bufferSize) {
+            this.accountId = accountId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+    
+    // The transaction id orders events; a snapshot of an account without postings counts as 0
+    private static final class OutboundEvent {
+        private final long transactionId;
+        private final String id;
+        private final String data;
+        
+        private OutboundEvent(long transactionId, String id, String data) {
+            this.transactionId = transactionId;
+            this.id = id;
+            this.data = data;
+        }
+    }
+    
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "balance-events-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-account locks and the net amount journaled but not yet projected. Every writer of a balance
+ * takes the account's lock: the journal poster while it checks and appends, the projector while it
+ * applies a batch, and direct database postings until their transaction completes. A direct debit
+ * may not spend stored balance that an unprojected withdrawal has already claimed, and an account
+ * cannot be deleted while any of its postings are unprojected.
+ * Without the journal nothing is ever pending and locking is a no-op.
+ */
+@Component
+public class AccountLedgers {
+    
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, AccountLedger> ledgers = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public AccountLedgers(@Value("${eaglebank.transactions.journal.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    // Locks in ascending ID order, the order every multi-account writer uses, and unlocks once the
+    // surrounding transaction has committed or rolled back
+    public void lockUntilCompletion(Long... accountIds) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Account ledgers can only be locked inside a transaction");
+        }
+        Long[] ordered = accountIds.clone();
+        Arrays.sort(ordered);
+        for (Long accountId : ordered) {
+            ReentrantLock lock = ledger(accountId).lock;
+            lock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+    
+    // Net unprojected amount for the account; the caller must hold its lock
+    public BigDecimal pending(Long accountId) {
+        if (!enabled) {
+            return BigDecimal.ZERO;
+        }
+        AccountLedger ledger = ledgers.get(accountId);
+        return ledger != null ? ledger.pending : BigDecimal.ZERO;
+    }
+    
+    // Stored balance held back for unprojected withdrawals; unprojected deposits are not spendable yet
+    public BigDecimal reserved(Long accountId) {
+        BigDecimal pending = pending(accountId);
+        return pending.signum() < 0 ? pending.negate() : BigDecimal.ZERO;
+    }
+    
+    // Whether any journaled posting for the account (even ones netting to zero) awaits projection;
+    // the caller must hold its lock
+    public boolean hasUnprojected(Long accountId) {
+        if (!enabled) {
+            return false;
+        }
+        AccountLedger ledger = ledgers.get(accountId);
+        return ledger != null && ledger.unprojected > 0;
+    }
+    
+    AccountLedger ledger(Long accountId) {
+        return ledgers.computeIfAbsent(accountId, id -> new AccountLedger());
+    }
+    
+    static final class AccountLedger {
+        final ReentrantLock lock = new ReentrantLock();
+        BigDecimal pending = BigDecimal.ZERO; // net amount journaled but not yet projected; guarded by lock
+        int unprojected; // postings journaled but not yet projected; guarded by lock
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
+import com.eaglebank.eagle_bank_api.entity.JournalCheckpoint;
+import com.eaglebank.eagle_bank_api.entity.Transaction;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.JournalCheckpointRepository;
+import com.eaglebank.eagle_bank_api.service.AccountStatsService;
+
+/**
+ * Applies journaled postings to the transactions, bank_accounts and account_stats tables. A batch
+ * is one database transaction: one JDBC batch insert for the rows (their ids are already assigned),
+ * one balance update per account and the checkpoint advance.
+ */
+@Component
+@ConditionalOnProperty(name = "eaglebank.transactions.journal.enabled", havingValue = "true")
+public class JournalProjector {
+    
+    static final String JOURNAL_NAME = "transactions";
+    private static final String INSERT_TRANSACTION = "INSERT INTO transactions " +
+        "(transaction_id, amount, transaction_type, description, balance_after, transaction_date, account_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final BankAccountRepository bankAccountRepository;
+    private final JournalCheckpointRepository journalCheckpointRepository;
+    private final AccountStatsService accountStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    public JournalProjector(JdbcTemplate jdbcTemplate,
+                            BankAccountRepository bankAccountRepository,
+                            JournalCheckpointRepository journalCheckpointRepository,
+                            AccountStatsService accountStatsService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bankAccountRepository = bankAccountRepository;
+        this.journalCheckpointRepository = journalCheckpointRepository;
+        this.accountStatsService = accountStatsService;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Transactional(readOnly = true)
+    public long getAppliedSequence() {
+        return journalCheckpointRepository.findById(JOURNAL_NAME)
+            .map(JournalCheckpoint::getAppliedSequence)
+            .orElse(0L);
+    }
+    
+    // Records must arrive in sequence order and after the checkpoint
+    @Transactional
+    public void apply(List<JournalRecord> records) {
+        Set<Long> accountIds = new HashSet<>();
+        for (JournalRecord record : records) {
+            accountIds.add(record.getAccountId());
+        }
+        // Accounts with unprojected postings cannot be deleted, so a missing account means the journal does
+        // not belong to this database. Acknowledged postings are never dropped: the batch fails, and is
+        // retried (or stops startup replay) until the account is restored or the journal moved aside.
+        Set<Long> existing = new HashSet<>(bankAccountRepository.findExistingAccountIds(accountIds));
+        for (JournalRecord record : records) {
+            if (!existing.contains(record.getAccountId())) {
+                throw new IllegalStateException("Journal record " + record.getSequence() + " is for missing account "
+                    + record.getAccountId());
+            }
+        }
+        
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, records, records.size(), JournalProjector::bind);
+        
+        // Net change per account, applied in account order like every other multi-account write
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        List<Transaction> transactions = new ArrayList<>(records.size());
+        for (JournalRecord record : records) {
+            deltas.merge(record.getAccountId(), signedAmount(record), BigDecimal::add);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, BigDecimal> delta : deltas.entrySet()) {
+            bankAccountRepository.credit(delta.getKey(), delta.getValue(), now);
+        }
+        for (JournalRecord record : records) {
+            transactions.add(toTransaction(record));
+        }
+        accountStatsService.recordPostings(transactions);
+        
+        // Balance streams see journaled postings once they are projected, one event per account
+        Map<Long, JournalRecord> latest = new TreeMap<>();
+        for (JournalRecord record : records) {
+            latest.put(record.getAccountId(), record);
+        }
+        for (JournalRecord record : latest.values()) {
+            eventPublisher.publishEvent(new BalanceEvent(record.getAccountId(), record.getBalanceAfter(),
+                record.getTransactionId(), record.getTransactionDate()));
+        }
+        
+        journalCheckpointRepository.save(
+            new JournalCheckpoint(JOURNAL_NAME, records.get(records.size() - 1).getSequence()));
+    }
+    
+    static BigDecimal signedAmount(JournalRecord record) {
+        return record.getTransactionType().isCredit() ? record.getAmount() : record.getAmount().negate();
+    }
+    
+    private Transaction toTransaction(JournalRecord record) {
+        Transaction transaction = new Transaction(record.getAmount(), record.getTransactionType().getValue(),
+            record.getDescription(), record.getBalanceAfter(), bankAccountRepository.getReferenceById(record.getAccountId()));
+        transaction.setTransactionId(record.getTransactionId());
+        transaction.setTransactionDate(record.getTransactionDate());
+        return transaction;
+    }
+    
+    private static void bind(PreparedStatement statement, JournalRecord record) throws SQLException {
+        statement.setLong(1, record.getTransactionId());
+        statement.setBigDecimal(2, record.getAmount());
+        statement.setString(3, record.getTransactionType().getValue());
+        statement.setString(4, record.getDescription());
+        statement.setBigDecimal(5, record.getBalanceAfter());
+        statement.setObject(6, record.getTransactionDate());
+        statement.setLong(7, record.getAccountId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+
+/**
+ * One journaled posting. The binary form is fixed-width apart from the description:
+ * sequence, transaction id, account id, type, amount and balance (unscaled long + scale),
+ * transaction date (UTC epoch second + nanos) and the description as length-prefixed UTF-8.
+ */
+public final class JournalRecord {
+    
+    private static final int FIXED_SIZE = 8 + 8 + 8 + 1 + (8 + 1) + (8 + 1) + (8 + 4) + 2;
+    private static final short NO_DESCRIPTION = -1;
+    
+    private final long sequence;
+    private final long transactionId;
+    private final long accountId;
+    private final TransactionType transactionType;
+    private final BigDecimal amount;
+    private final BigDecimal balanceAfter;
+    private final LocalDateTime transactionDate;
+    private final String description;
+    
+    public JournalRecord(long sequence, long transactionId, long accountId, TransactionType transactionType,
+                         BigDecimal amount, BigDecimal balanceAfter, LocalDateTime transactionDate, String description) {
+        this.sequence = sequence;
+        this.transactionId = transactionId;
+        this.accountId = accountId;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.transactionDate = transactionDate;
+        this.description = description;
+    }
+    
+    public TransactionResponse toResponse() {
+        return new TransactionResponse(transactionId, amount, transactionType.getValue(), description,
+            balanceAfter, transactionDate, accountId);
+    }
+    
+    // Encoded description, or null; computed once so sizing and writing agree
+    static byte[] encodeDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Description is too long");
+        }
+        return bytes;
+    }
+    
+    static int encodedSize(byte[] description) {
+        return FIXED_SIZE + (description == null ? 0 : description.length);
+    }
+    
+    void writeTo(ByteBuffer buffer, int offset, byte[] descriptionBytes) {
+        int at = offset;
+        buffer.putLong(at, sequence);
+        buffer.putLong(at += 8, transactionId);
+        buffer.putLong(at += 8, accountId);
+        buffer.put(at += 8, (byte) transactionType.ordinal());
+        at = putDecimal(buffer, at + 1, amount);
+        at = putDecimal(buffer, at, balanceAfter);
+        buffer.putLong(at, transactionDate.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(at += 8, transactionDate.getNano());
+        at += 4;
+        if (descriptionBytes == null) {
+            buffer.putShort(at, NO_DESCRIPTION);
+        } else {
+            buffer.putShort(at, (short) descriptionBytes.length);
+            buffer.put(at + 2, descriptionBytes);
+        }
+    }
+    
+    static JournalRecord readFrom(ByteBuffer buffer, int offset) {
+        int at = offset;
+        long sequence = buffer.getLong(at);
+        long transactionId = buffer.getLong(at += 8);
+        long accountId = buffer.getLong(at += 8);
+        TransactionType type = TransactionType.values()[buffer.get(at += 8)];
+        BigDecimal amount = getDecimal(buffer, at += 1);
+        BigDecimal balanceAfter = getDecimal(buffer, at += 9);
+        long epochSecond = buffer.getLong(at += 9);
+        int nanos = buffer.getInt(at += 8);
+        short descriptionLength = buffer.getShort(at += 4);
+        String description = null;
+        if (descriptionLength != NO_DESCRIPTION) {
+            byte[] bytes = new byte[descriptionLength];
+            buffer.get(at + 2, bytes);
+            description = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new JournalRecord(sequence, transactionId, accountId, type, amount, balanceAfter,
+            LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC), description);
+    }
+    
+    private static int putDecimal(ByteBuffer buffer, int at, BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63 || value.scale() < 0 || value.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Amount out of range: " + value);
+        }
+        buffer.putLong(at, unscaled.longValue());
+        buffer.put(at + 8, (byte) value.scale());
+        return at + 9;
+    }
+    
+    private static BigDecimal getDecimal(ByteBuffer buffer, int at) {
+        return BigDecimal.valueOf(buffer.getLong(at), buffer.get(at + 8));
+    }
+    
+    // Getters
+    public long getSequence() { return sequence; }
+    public long getTransactionId() { return transactionId; }
+    public long getAccountId() { return accountId; }
+    public TransactionType getTransactionType() { return transactionType; }
+    public BigDecimal getAmount() { return amount; }
+    public BigDecimal getBalanceAfter() { return balanceAfter; }
+    public LocalDateTime getTransactionDate() { return transactionDate; }
+    public String getDescription() { return description; }
+}
\ No newline at end of file
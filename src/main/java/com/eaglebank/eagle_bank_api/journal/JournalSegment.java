@@ -0,0 +1,113 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * A fixed-size, memory-mapped journal file. Records are framed as [length][crc32c][payload];
+ * the file is zero-filled on creation, so a zero length marks the end of written data, and a
+ * frame whose checksum does not match (a write torn by a crash) ends the segment as well.
+ */
+final class JournalSegment {
+    
+    static final String SUFFIX = ".seg";
+    private static final int FRAME_HEADER = 4 + 4;
+    
+    private final Path path;
+    private final long firstSequence;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private long lastSequence;
+    
+    private JournalSegment(Path path, long firstSequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+    
+    static JournalSegment create(Path directory, long firstSequence, int size) throws IOException {
+        Path path = directory.resolve(String.format("%020d", firstSequence) + SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return new JournalSegment(path, firstSequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+    
+    // Maps an existing segment and positions it after its last intact record
+    static JournalSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long firstSequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            JournalSegment segment = new JournalSegment(path, firstSequence,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            for (JournalRecord record : segment.readRecords()) {
+                segment.lastSequence = record.getSequence();
+            }
+            return segment;
+        }
+    }
+    
+    // Returns false, writing nothing, when the record does not fit; the caller then rolls to a new segment
+    boolean append(JournalRecord record) {
+        byte[] description = JournalRecord.encodeDescription(record.getDescription());
+        int length = JournalRecord.encodedSize(description);
+        // Keep room for the zero length that terminates the segment
+        if (writePosition + FRAME_HEADER + length + 4 > buffer.capacity()) {
+            return false;
+        }
+        int payload = writePosition + FRAME_HEADER;
+        record.writeTo(buffer, payload, description);
+        buffer.putInt(writePosition + 4, checksum(payload, length));
+        // Length last: a frame only becomes visible to recovery once its payload and checksum are in place
+        buffer.putInt(writePosition, length);
+        writePosition = payload + length;
+        lastSequence = record.getSequence();
+        return true;
+    }
+    
+    // Decodes every intact record and leaves the write position after the last one
+    List<JournalRecord> readRecords() {
+        List<JournalRecord> records = new ArrayList<>();
+        int position = 0;
+        while (position + FRAME_HEADER <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            int payload = position + FRAME_HEADER;
+            if (length <= 0 || payload + length > buffer.capacity()
+                    || buffer.getInt(position + 4) != checksum(payload, length)) {
+                break;
+            }
+            records.add(JournalRecord.readFrom(buffer, payload));
+            position = payload + length;
+        }
+        writePosition = position;
+        return records;
+    }
+    
+    void force() {
+        buffer.force();
+    }
+    
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+    
+    private int checksum(int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+    
+    Path getPath() { return path; }
+    long getFirstSequence() { return firstSequence; }
+    long getLastSequence() { return lastSequence; }
+    boolean isEmpty() { return lastSequence < firstSequence; }
+}
\ No newline at end of file
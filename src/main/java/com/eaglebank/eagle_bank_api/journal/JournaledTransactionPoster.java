@@ -0,0 +1,210 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.journal.AccountLedgers.AccountLedger;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+
+/**
+ * Write-behind posting: a transaction is appended to the {@link TransactionJournal} and acknowledged
+ * once the journal has it on disk; a background thread projects durable records into the tables in
+ * batches. Funds are checked against the stored balance plus the postings still waiting to be
+ * projected, under the per-account lock of {@link AccountLedgers} that every other writer also takes.
+ * On startup every record after the projection checkpoint is replayed before postings are accepted.
+ */
+@Component
+@ConditionalOnProperty(name = "eaglebank.transactions.journal.enabled", havingValue = "true")
+public class JournaledTransactionPoster implements InitializingBean, DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(JournaledTransactionPoster.class);
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    
+    private final BankAccountService bankAccountService;
+    private final BankAccountRepository bankAccountRepository;
+    private final JournalProjector projector;
+    private final TransactionIdAllocator transactionIdAllocator;
+    private final AccountLedgers accountLedgers;
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalMicros;
+    private final int batchSize;
+    private final long durableTimeoutMillis;
+    
+    private final BlockingQueue<JournalRecord> projectionQueue = new LinkedBlockingQueue<>();
+    private final Thread projectorThread = new Thread(this::projectLoop, "transaction-journal-projector");
+    private volatile boolean running = true;
+    private TransactionJournal journal;
+    
+    @Autowired
+    public JournaledTransactionPoster(BankAccountService bankAccountService,
+                                      BankAccountRepository bankAccountRepository,
+                                      JournalProjector projector,
+                                      TransactionIdAllocator transactionIdAllocator,
+                                      AccountLedgers accountLedgers,
+                                      @Value("${eaglebank.transactions.journal.directory:./data/journal}") String directory,
+                                      @Value("${eaglebank.transactions.journal.segment-size-mb:64}") int segmentSizeMb,
+                                      @Value("${eaglebank.transactions.journal.flush-interval-micros:500}") long flushIntervalMicros,
+                                      @Value("${eaglebank.transactions.journal.projection-batch-size:500}") int batchSize,
+                                      @Value("${eaglebank.transactions.journal.durable-timeout-ms:5000}") long durableTimeoutMillis) {
+        if (segmentSizeMb < 1 || segmentSizeMb > 1024 || flushIntervalMicros < 0 || batchSize < 1 || durableTimeoutMillis < 1) {
+            throw new IllegalArgumentException("Journal segment size must be 1-1024 MB, flush interval non-negative and batch size and durable timeout positive");
+        }
+        this.bankAccountService = bankAccountService;
+        this.bankAccountRepository = bankAccountRepository;
+        this.projector = projector;
+        this.transactionIdAllocator = transactionIdAllocator;
+        this.accountLedgers = accountLedgers;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.flushIntervalMicros = flushIntervalMicros;
+        this.batchSize = batchSize;
+        this.durableTimeoutMillis = durableTimeoutMillis;
+    }
+    
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        long appliedSequence = projector.getAppliedSequence();
+        journal = new TransactionJournal(directory, segmentSize, flushIntervalMicros, appliedSequence, projectionQueue::addAll);
+        
+        List<JournalRecord> unapplied = journal.readAfter(appliedSequence);
+        for (int from = 0; from < unapplied.size(); from += batchSize) {
+            projector.apply(unapplied.subList(from, Math.min(from + batchSize, unapplied.size())));
+        }
+        if (!unapplied.isEmpty()) {
+            log.info("Replayed {} journaled posting(s) after sequence {}", unapplied.size(), appliedSequence);
+            journal.releaseThrough(unapplied.get(unapplied.size() - 1).getSequence());
+        }
+        
+        projectorThread.setDaemon(true);
+        projectorThread.start();
+    }
+    
+    public TransactionResponse post(Long accountId, Long authenticatedUserId, TransactionCreateRequest request) {
+        bankAccountService.validateOwnership(accountId, authenticatedUserId);
+        
+        TransactionType transactionType = TransactionType.fromValue(request.getTransactionType());
+        BigDecimal delta = transactionType.isCredit() ? request.getAmount() : request.getAmount().negate();
+        AccountLedger ledger = accountLedgers.ledger(accountId);
+        JournalRecord record;
+        ledger.lock.lock();
+        try {
+            BigDecimal balance = bankAccountRepository.findBalanceByAccountId(accountId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId))
+                .add(ledger.pending);
+            BigDecimal newBalance = balance.add(delta);
+            if (newBalance.signum() < 0) {
+                throw new UnprocessableEntityException("Insufficient funds. Current balance: " + balance);
+            }
+            // Allocated under the lock, so an account's postings carry increasing ids in journal order;
+            // balance streams rely on that to discard stale events
+            long transactionId = transactionIdAllocator.next();
+            record = journal.append(transactionId, accountId, transactionType, request.getAmount(), newBalance,
+                LocalDateTime.now(), request.getDescription());
+            ledger.pending = ledger.pending.add(delta);
+            ledger.unprojected++;
+        } finally {
+            ledger.lock.unlock();
+        }
+        
+        // Later postings to the account may proceed meanwhile; they are behind this one in the journal
+        try {
+            if (!journal.awaitDurable(record.getSequence(), durableTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Journal did not reach disk within " + durableTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the journal", e);
+        }
+        return record.toResponse();
+    }
+    
+    public int getPendingProjections() {
+        return projectionQueue.size();
+    }
+    
+    private void projectLoop() {
+        List<JournalRecord> batch = new ArrayList<>(batchSize);
+        while (running || !projectionQueue.isEmpty()) {
+            try {
+                JournalRecord first = projectionQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                projectionQueue.drainTo(batch, batchSize - 1);
+                project(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    // Acknowledged records cannot be dropped, so a failing batch is retried until it applies
+    private void project(List<JournalRecord> batch) throws InterruptedException {
+        SortedSet<Long> accountIds = new TreeSet<>();
+        for (JournalRecord record : batch) {
+            accountIds.add(record.getAccountId());
+        }
+        while (true) {
+            List<AccountLedger> locked = new ArrayList<>(accountIds.size());
+            for (Long accountId : accountIds) {
+                AccountLedger ledger = accountLedgers.ledger(accountId);
+                ledger.lock.lock();
+                locked.add(ledger);
+            }
+            try {
+                projector.apply(batch);
+                for (JournalRecord record : batch) {
+                    AccountLedger ledger = accountLedgers.ledger(record.getAccountId());
+                    ledger.pending = ledger.pending.subtract(JournalProjector.signedAmount(record));
+                    ledger.unprojected--;
+                }
+                break;
+            } catch (RuntimeException e) {
+                log.error("Projecting journal records {}-{} failed, retrying", batch.get(0).getSequence(),
+                    batch.get(batch.size() - 1).getSequence(), e);
+            } finally {
+                for (AccountLedger ledger : locked) {
+                    ledger.lock.unlock();
+                }
+            }
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        }
+        journal.releaseThrough(batch.get(batch.size() - 1).getSequence());
+    }
+    
+    @Override
+    public void destroy() throws InterruptedException {
+        // Closing the journal flushes the last appends onto the queue; the projector then drains it
+        journal.close();
+        running = false;
+        projectorThread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.entity.Transaction;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hands out transaction ids before the row exists, so a journaled posting can be acknowledged with
+ * its final id. Ids come from Hibernate's own generator for {@link Transaction}, which shares its
+ * optimizer (and therefore its reserved id blocks) with regular inserts.
+ */
+@Component
+@ConditionalOnProperty(name = "eaglebank.transactions.journal.enabled", havingValue = "true")
+public class TransactionIdAllocator {
+    
+    private final SessionFactoryImplementor sessionFactory;
+    private final BeforeExecutionGenerator generator;
+    
+    @Autowired
+    public TransactionIdAllocator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.generator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+            .getEntityDescriptor(Transaction.class).getGenerator();
+    }
+    
+    // Only every allocationSize-th call reaches the database sequence
+    public long next() {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return ((Number) generator.generate((SharedSessionContractImplementor) session, null, null, EventType.INSERT)).longValue();
+        }
+    }
+}
\ No newline at end of file
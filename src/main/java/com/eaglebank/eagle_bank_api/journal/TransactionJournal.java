@@ -0,0 +1,277 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+
+/**
+ * Append-only log of postings stored in memory-mapped segment files. Appends only copy the record
+ * into the mapped segment; a single flusher thread forces the segment to disk for everything
+ * appended since its last pass (group commit) and then hands the now durable records, in sequence
+ * order, to the listener. Callers wait in {@link #awaitDurable} before acknowledging a posting.
+ * If forcing a segment or the listener fails, the flusher stops: waiting callers and later appends
+ * fail instead of waiting for a flush that will never come.
+ */
+public class TransactionJournal implements Closeable {
+    
+    private static final Logger log = LoggerFactory.getLogger(TransactionJournal.class);
+    
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final Consumer<List<JournalRecord>> durableListener;
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    
+    // Guarded by lock
+    private final Deque<JournalSegment> segments = new ArrayDeque<>();
+    private List<JournalRecord> unflushed = new ArrayList<>();
+    private long nextSequence;
+    private long durableSequence;
+    private boolean closed;
+    private boolean flusherStopped;
+    private RuntimeException failure;
+    
+    private final Thread flusher;
+    
+    public TransactionJournal(Path directory, int segmentSize, long flushIntervalMicros, long appliedSequence,
+                              Consumer<List<JournalRecord>> durableListener) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.flushIntervalNanos = TimeUnit.MICROSECONDS.toNanos(flushIntervalMicros);
+        this.durableListener = durableListener;
+        
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path path : files.filter(p -> p.getFileName().toString().endsWith(JournalSegment.SUFFIX)).sorted().toList()) {
+                JournalSegment segment = JournalSegment.open(path);
+                if (segment.isEmpty()) {
+                    segment.delete();
+                } else {
+                    segments.addLast(segment);
+                }
+            }
+        }
+        long lastSequence = segments.isEmpty() ? appliedSequence : Math.max(appliedSequence, segments.getLast().getLastSequence());
+        this.nextSequence = lastSequence + 1;
+        this.durableSequence = lastSequence;
+        // Never append behind a torn tail: new records always start a fresh segment
+        segments.addLast(JournalSegment.create(this.directory, nextSequence, segmentSize));
+        
+        this.flusher = new Thread(this::flushLoop, "transaction-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+    
+    // Records after the given sequence, in order; used to replay postings that were never projected
+    public List<JournalRecord> readAfter(long appliedSequence) {
+        lock.lock();
+        try {
+            List<JournalRecord> records = new ArrayList<>();
+            for (JournalSegment segment : segments) {
+                if (segment.getLastSequence() > appliedSequence) {
+                    for (JournalRecord record : segment.readRecords()) {
+                        if (record.getSequence() > appliedSequence) {
+                            records.add(record);
+                        }
+                    }
+                }
+            }
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public JournalRecord append(long transactionId, long accountId, TransactionType transactionType, BigDecimal amount,
+                                BigDecimal balanceAfter, LocalDateTime transactionDate, String description) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Transaction journal is closed");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Transaction journal failed", failure);
+            }
+            JournalRecord record = new JournalRecord(nextSequence, transactionId, accountId, transactionType,
+                amount, balanceAfter, transactionDate, description);
+            if (!segments.getLast().append(record)) {
+                roll();
+                if (!segments.getLast().append(record)) {
+                    throw new IllegalArgumentException("Journal record does not fit in an empty segment");
+                }
+            }
+            nextSequence++;
+            unflushed.add(record);
+            appended.signal();
+            return record;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // False if the record is still not on disk when the timeout runs out
+    public boolean awaitDurable(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new IllegalStateException("Transaction journal failed before the posting was durable", failure);
+                }
+                if (flusherStopped) {
+                    throw new IllegalStateException("Transaction journal closed before the posting was durable");
+                }
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = flushed.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Deletes full segments whose records have all been projected
+    public void releaseThrough(long appliedSequence) {
+        lock.lock();
+        try {
+            Iterator<JournalSegment> iterator = segments.iterator();
+            while (iterator.hasNext()) {
+                JournalSegment segment = iterator.next();
+                if (segment == segments.getLast() || segment.getLastSequence() > appliedSequence) {
+                    break;
+                }
+                iterator.remove();
+                try {
+                    segment.delete();
+                } catch (IOException e) {
+                    log.warn("Could not delete journal segment {}", segment.getPath(), e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void roll() {
+        JournalSegment full = segments.getLast();
+        // Older segments are made durable here, so the flusher only ever has to force the active one
+        full.force();
+        try {
+            segments.addLast(JournalSegment.create(directory, nextSequence, segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create journal segment", e);
+        }
+    }
+    
+    private void flushLoop() {
+        try {
+            flushUntilClosed();
+        } catch (RuntimeException e) {
+            log.error("Transaction journal flusher failed; no further postings are accepted", e);
+            lock.lock();
+            try {
+                failure = e;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                flusherStopped = true;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    private void flushUntilClosed() {
+        while (true) {
+            List<JournalRecord> batch;
+            JournalSegment active;
+            lock.lock();
+            try {
+                while (unflushed.isEmpty() && !closed) {
+                    appended.awaitUninterruptibly();
+                }
+                if (unflushed.isEmpty()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            // Let concurrent appenders join this flush before paying for the fsync
+            if (flushIntervalNanos > 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+            
+            lock.lock();
+            try {
+                batch = unflushed;
+                unflushed = new ArrayList<>();
+                active = segments.getLast();
+            } finally {
+                lock.unlock();
+            }
+            
+            active.force();
+            
+            lock.lock();
+            try {
+                durableSequence = batch.get(batch.size() - 1).getSequence();
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            durableListener.accept(batch);
+        }
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            appended.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            // The flusher drains what was appended before it exits
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
\ No newline at end of file
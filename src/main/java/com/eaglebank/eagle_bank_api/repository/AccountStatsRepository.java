@@ -0,0 +1,42 @@
+package com.eaglebank.eagle_bank_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
+import com.eaglebank.eagle_bank_api.entity.AccountStats;
+
+@Repository
+public interface AccountStatsRepository extends JpaRepository<AccountStats, Long> {
+    
+    // Callers hold the account's row lock (via the balance update), so increments on one account are serialized
+    @Modifying
+    @Query("UPDATE AccountStats s SET s.totalDeposits = s.totalDeposits + :deposits, " +
+           "s.totalWithdrawals = s.totalWithdrawals + :withdrawals, " +
+           "s.transactionCount = s.transactionCount + :count, " +
+           "s.lastActivityAt = CASE WHEN s.lastActivityAt IS NULL OR s.lastActivityAt < :lastActivityAt " +
+           "THEN :lastActivityAt ELSE s.lastActivityAt END " +
+           "WHERE s.accountId = :accountId")
+    int increment(@Param("accountId") Long accountId,
+                  @Param("deposits") BigDecimal deposits,
+                  @Param("withdrawals") BigDecimal withdrawals,
+                  @Param("count") Long count,
+                  @Param("lastActivityAt") LocalDateTime lastActivityAt);
+    
+    @Modifying
+    @Query("DELETE FROM AccountStats s WHERE s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+    
+    @Query("SELECT new com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse(" +
+           "ba.accountId, ba.balance, s.totalDeposits, s.totalWithdrawals, s.transactionCount, s.lastActivityAt) " +
+           "FROM BankAccount ba LEFT JOIN AccountStats s ON s.accountId = ba.accountId " +
+           "WHERE ba.accountId = :accountId")
+    Optional<AccountSummaryResponse> findSummary(@Param("accountId") Long accountId);
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.eaglebank.eagle_bank_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eaglebank.eagle_bank_api.entity.ArchivedAccountTotals;
+
+@Repository
+public interface ArchivedAccountTotalsRepository extends JpaRepository<ArchivedAccountTotals, Long> {
+    
+    @Modifying
+    @Query("UPDATE ArchivedAccountTotals a SET a.totalDeposits = a.totalDeposits + :deposits, " +
+           "a.totalWithdrawals = a.totalWithdrawals + :withdrawals, " +
+           "a.transactionCount = a.transactionCount + :count, " +
+           "a.lastActivityAt = CASE WHEN a.lastActivityAt IS NULL OR a.lastActivityAt < :lastActivityAt " +
+           "THEN :lastActivityAt ELSE a.lastActivityAt END " +
+           "WHERE a.accountId = :accountId")
+    int increment(@Param("accountId") Long accountId,
+                  @Param("deposits") BigDecimal deposits,
+                  @Param("withdrawals") BigDecimal withdrawals,
+                  @Param("count") Long count,
+                  @Param("lastActivityAt") LocalDateTime lastActivityAt);
+}
\ No newline at end of file
@@ -1,13 +1,26 @@
 package com.eaglebank.eagle_bank_api.repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.eaglebank.eagle_bank_api.dto.AccountNumberResolution;
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
+import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
+import com.eaglebank.eagle_bank_api.dto.ResourceVersion;
 import com.eaglebank.eagle_bank_api.entity.BankAccount;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
     
@@ -16,4 +29,81 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, Long>
     Optional<BankAccount> findByAccountNumber(String accountNumber);
     
     boolean existsByAccountNumber(String accountNumber);
+    
+    // Response projections read the owner id from the user_id column instead of the lazy User proxy
+    String SELECT_RESPONSE = "SELECT new com.eaglebank.eagle_bank_api.dto.BankAccountResponse(" +
+           "ba.accountId, ba.accountName, ba.accountType, ba.balance, ba.accountNumber, " +
+           "ba.user.userId, ba.createdAt, ba.updatedAt) FROM BankAccount ba ";
+    
+    @Query(SELECT_RESPONSE + "WHERE ba.user.userId = :userId")
+    List<BankAccountResponse> findResponsesByUserId(@Param("userId") Long userId);
+    
+    @Query(SELECT_RESPONSE + "WHERE ba.accountId = :accountId")
+    Optional<BankAccountResponse> findResponseById(@Param("accountId") Long accountId);
+    
+    // Updating or posting to an account bumps its version, so the sum of versions goes up; creating one
+    // raises the highest account id and deleting one lowers the count
+    @Query("SELECT new com.eaglebank.eagle_bank_api.dto.ResourceVersion(MAX(ba.accountId), COUNT(ba), SUM(ba.version)) " +
+           "FROM BankAccount ba WHERE ba.user.userId = :userId")
+    ResourceVersion findAccountsVersionByUserId(@Param("userId") Long userId);
+    
+    // Every posting inserts a transaction and moves the account's updatedAt with its balance
+    @Query("SELECT new com.eaglebank.eagle_bank_api.dto.ResourceVersion(" +
+           "(SELECT MAX(t.transactionId) FROM Transaction t WHERE t.bankAccount.accountId = ba.accountId), ba.updatedAt) " +
+           "FROM BankAccount ba WHERE ba.accountId = :accountId")
+    Optional<ResourceVersion> findHistoryVersionById(@Param("accountId") Long accountId);
+    
+    // One statement, so the balance and the latest transaction id are read from the same committed state
+    @Query("SELECT new com.eaglebank.eagle_bank_api.dto.BalanceEvent(ba.accountId, ba.balance, " +
+           "(SELECT MAX(t.transactionId) FROM Transaction t WHERE t.bankAccount.accountId = ba.accountId), ba.updatedAt) " +
+           "FROM BankAccount ba WHERE ba.accountId = :accountId")
+    Optional<BalanceEvent> findBalanceEventById(@Param("accountId") Long accountId);
+    
+    String SELECT_RESOLUTION = "SELECT new com.eaglebank.eagle_bank_api.dto.AccountNumberResolution(" +
+           "ba.accountNumber, ba.accountId, ba.user.userId) FROM BankAccount ba ";
+    
+    @Query(SELECT_RESOLUTION + "WHERE ba.accountNumber = :accountNumber")
+    Optional<AccountNumberResolution> findResolutionByAccountNumber(@Param("accountNumber") String accountNumber);
+    
+    @Query(SELECT_RESOLUTION + "WHERE ba.accountNumber IN :accountNumbers")
+    List<AccountNumberResolution> findResolutionsByAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+    
+    @Query("SELECT ba.accountId FROM BankAccount ba ORDER BY ba.accountId")
+    List<Long> findAllAccountIds();
+    
+    @Query("SELECT ba.accountId FROM BankAccount ba WHERE ba.user.userId = :userId")
+    List<Long> findAccountIdsByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT ba.accountId FROM BankAccount ba WHERE ba.accountId IN :accountIds")
+    List<Long> findExistingAccountIds(@Param("accountIds") Collection<Long> accountIds);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ba FROM BankAccount ba WHERE ba.accountId = :accountId")
+    Optional<BankAccount> findByIdForUpdate(@Param("accountId") Long accountId);
+    
+    @Query("SELECT ba.user.userId FROM BankAccount ba WHERE ba.accountId = :accountId")
+    Optional<Long> findOwnerIdByAccountId(@Param("accountId") Long accountId);
+    
+    @Query("SELECT ba.balance FROM BankAccount ba WHERE ba.accountId = :accountId")
+    Optional<BigDecimal> findBalanceByAccountId(@Param("accountId") Long accountId);
+    
+    // Balance mutations are applied in the database so concurrent postings never overwrite each other.
+    // Both bump the version so stale entity updates (e.g. a concurrent rename) fail optimistically.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankAccount ba SET ba.balance = ba.balance + :amount, ba.version = ba.version + 1, " +
+           "ba.updatedAt = :now WHERE ba.accountId = :accountId")
+    int credit(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+    
+    // One UPDATE instead of loading and deleting the account with its whole history
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankAccount ba SET ba.deletedAt = :now, ba.version = ba.version + 1, ba.updatedAt = :now " +
+           "WHERE ba.accountId = :accountId")
+    int softDelete(@Param("accountId") Long accountId, @Param("now") LocalDateTime now);
+    
+    // The reserved part of the balance (held for postings not yet projected) is not available to the debit
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankAccount ba SET ba.balance = ba.balance - :amount, ba.version = ba.version + 1, " +
+           "ba.updatedAt = :now WHERE ba.accountId = :accountId AND ba.balance - :reserved >= :amount")
+    int debitIfSufficient(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount,
+                          @Param("reserved") BigDecimal reserved, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,26 @@
+package com.eaglebank.eagle_bank_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.eaglebank.eagle_bank_api.entity.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    
+    // Oldest first, one page at a time, so expiry deletes in bounded batches
+    @Query("SELECT r.scopedKey FROM IdempotencyRecord r WHERE r.createdAt < :cutoff ORDER BY r.createdAt")
+    List<String> findKeysCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopedKey IN :keys")
+    int deleteByKeys(@Param("keys") Collection<String> keys);
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.eaglebank.eagle_bank_api.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.eaglebank.eagle_bank_api.entity.JournalCheckpoint;
+
+@Repository
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+}
\ No newline at end of file
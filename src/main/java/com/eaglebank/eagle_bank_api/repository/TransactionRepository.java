@@ -1,16 +1,104 @@
 package com.eaglebank.eagle_bank_api.repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.entity.AccountStats;
 import com.eaglebank.eagle_bank_api.entity.Transaction;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     
-    List<Transaction> findByBankAccountAccountIdOrderByTransactionDateDesc(Long accountId);
+    long countByBankAccountAccountId(Long accountId);
+    
+    // Read paths select straight into TransactionResponse. The account id comes from the foreign key
+    // column, so no BankAccount proxy is ever touched while mapping a row.
+    String SELECT_RESPONSE = "SELECT new com.eaglebank.eagle_bank_api.dto.TransactionResponse(" +
+           "t.transactionId, t.amount, t.transactionType, t.description, t.balanceAfter, " +
+           "t.transactionDate, t.bankAccount.accountId, t.counterpartyAccountId, t.transferId) FROM Transaction t ";
+    
+    // Keyset pagination over (transaction_date, transaction_id), newest first. The "After" variants
+    // continue strictly below the cursor row, so each page is an index range scan of `limit` rows.
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.accountId = :accountId " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionResponse> findAccountHistory(@Param("accountId") Long accountId, Pageable pageable);
+    
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.accountId = :accountId " +
+           "AND (t.transactionDate < :transactionDate " +
+           "OR (t.transactionDate = :transactionDate AND t.transactionId < :transactionId)) " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionResponse> findAccountHistoryAfter(@Param("accountId") Long accountId,
+                                                      @Param("transactionDate") LocalDateTime transactionDate,
+                                                      @Param("transactionId") Long transactionId,
+                                                      Pageable pageable);
+    
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.user.userId = :userId " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionResponse> findUserHistory(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.user.userId = :userId " +
+           "AND (t.transactionDate < :transactionDate " +
+           "OR (t.transactionDate = :transactionDate AND t.transactionId < :transactionId)) " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<TransactionResponse> findUserHistoryAfter(@Param("userId") Long userId,
+                                                   @Param("transactionDate") LocalDateTime transactionDate,
+                                                   @Param("transactionId") Long transactionId,
+                                                   Pageable pageable);
+    
+    // Point-in-time balance: balanceAfter of the last posting at or before the instant, read with one
+    // descending seek on idx_transactions_account_date_id however long the history is
+    @Query("SELECT t.balanceAfter FROM Transaction t WHERE t.bankAccount.accountId = :accountId " +
+           "AND t.transactionDate <= :asOf ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    List<BigDecimal> findBalancesAtOrBefore(@Param("accountId") Long accountId,
+                                            @Param("asOf") LocalDateTime asOf,
+                                            Pageable pageable);
+    
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.accountId = :accountId AND t.transactionDate > :asOf " +
+           "ORDER BY t.transactionDate, t.transactionId")
+    List<TransactionResponse> findFirstAfter(@Param("accountId") Long accountId,
+                                             @Param("asOf") LocalDateTime asOf,
+                                             Pageable pageable);
+    
+    // Streams DTOs straight from the result set for exports; nothing is attached to the persistence
+    // context, so memory stays flat regardless of history length. Must be consumed inside a transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE t.bankAccount.user.userId = :userId " +
+           "AND t.transactionDate >= :from AND t.transactionDate < :to " +
+           "ORDER BY t.transactionDate DESC, t.transactionId DESC")
+    Stream<TransactionResponse> streamUserHistory(@Param("userId") Long userId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+    
+    // Oldest rows first, for moving them to the archive; a range scan on idx_transactions_date_id
+    @Query(SELECT_RESPONSE + "WHERE t.transactionDate < :cutoff ORDER BY t.transactionDate, t.transactionId")
+    List<TransactionResponse> findOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+    
+    // One DELETE per batch of ids instead of loading and removing the entities one by one
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Transaction t WHERE t.transactionId IN :transactionIds")
+    int deleteByTransactionIds(@Param("transactionIds") Collection<Long> transactionIds);
     
-    List<Transaction> findByBankAccountUserUserIdOrderByTransactionDateDesc(Long userId);
+    // Recomputes account_stats rows from scratch; used by the drift check
+    @Query("SELECT new com.eaglebank.eagle_bank_api.entity.AccountStats(t.bankAccount.accountId, " +
+           "SUM(CASE WHEN t.transactionType IN ('DEPOSIT', 'TRANSFER_IN') THEN t.amount ELSE 0 END), " +
+           "SUM(CASE WHEN t.transactionType IN ('WITHDRAWAL', 'TRANSFER_OUT') THEN t.amount ELSE 0 END), " +
+           "COUNT(t), MAX(t.transactionDate)) " +
+           "FROM Transaction t WHERE t.bankAccount.accountId IN :accountIds " +
+           "GROUP BY t.bankAccount.accountId")
+    List<AccountStats> aggregateStatsByAccountIds(@Param("accountIds") Collection<Long> accountIds);
 }
\ No newline at end of file
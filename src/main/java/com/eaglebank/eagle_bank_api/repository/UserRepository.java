@@ -3,6 +3,7 @@ package com.eaglebank.eagle_bank_api.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,4 +19,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT CASE WHEN COUNT(ba) > 0 THEN true ELSE false END FROM BankAccount ba WHERE ba.user.userId = :userId")
     boolean hasBankAccounts(@Param("userId") Long userId);
+    
+    // Soft-deleted accounts are hidden from JPQL, so removing them (and their remaining history) before
+    // the user row goes takes native SQL
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM transactions WHERE account_id IN " +
+           "(SELECT account_id FROM bank_accounts WHERE user_id = :userId AND deleted_at IS NOT NULL)", nativeQuery = true)
+    int purgeDeletedAccountTransactions(@Param("userId") Long userId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM bank_accounts WHERE user_id = :userId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeletedAccounts(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.eaglebank.eagle_bank_api.service;
+
+/**
+ * Source of account numbers for new bank accounts. Implementations must be thread-safe and must
+ * never hand out the same number twice, including across application instances sharing a database.
+ */
+public interface AccountNumberGenerator {
+    
+    String next();
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eaglebank.eagle_bank_api.cache.BoundedTtlCache;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchItemResult;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchResponse;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberResolution;
+import com.eaglebank.eagle_bank_api.exception.ForbiddenException;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+
+/**
+ * Resolves account numbers to account ids through a near-cache. Known numbers are cached with their
+ * owner; unknown numbers are remembered for a shorter time so repeated misses do not reach the
+ * database. Deliberately not transactional: a cache hit never borrows a connection.
+ */
+@Service
+public class AccountNumberResolver {
+    
+    private static final String FORBIDDEN = "You can only access your own bank accounts";
+    
+    private final BankAccountRepository bankAccountRepository;
+    private final BoundedTtlCache<String, AccountNumberResolution> accountNumberCache;
+    private final BoundedTtlCache<String, Boolean> unknownAccountNumberCache;
+    
+    @Autowired
+    public AccountNumberResolver(BankAccountRepository bankAccountRepository,
+                                 BoundedTtlCache<String, AccountNumberResolution> accountNumberCache,
+                                 BoundedTtlCache<String, Boolean> unknownAccountNumberCache) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.accountNumberCache = accountNumberCache;
+        this.unknownAccountNumberCache = unknownAccountNumberCache;
+    }
+    
+    public AccountNumberResolution resolve(String accountNumber, Long authenticatedUserId) {
+        AccountNumberResolution account = accountNumberCache.getIfPresent(accountNumber);
+        if (account == null && unknownAccountNumberCache.getIfPresent(accountNumber) == null) {
+            account = bankAccountRepository.findResolutionByAccountNumber(accountNumber).orElse(null);
+            remember(accountNumber, account);
+        }
+        if (account == null) {
+            throw new ResourceNotFoundException("Bank account not found with number: " + accountNumber);
+        }
+        if (!account.getUserId().equals(authenticatedUserId)) {
+            throw new ForbiddenException(FORBIDDEN);
+        }
+        return account;
+    }
+    
+    // Cache misses across the whole batch are loaded with one IN query
+    public AccountNumberBatchResponse resolveAll(List<String> accountNumbers, Long authenticatedUserId) {
+        Map<String, AccountNumberResolution> found = new HashMap<>();
+        Set<String> unknown = new LinkedHashSet<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String accountNumber : accountNumbers) {
+            if (found.containsKey(accountNumber) || unknown.contains(accountNumber) || misses.contains(accountNumber)) {
+                continue;
+            }
+            AccountNumberResolution cached = accountNumberCache.getIfPresent(accountNumber);
+            if (cached != null) {
+                found.put(accountNumber, cached);
+            } else if (unknownAccountNumberCache.getIfPresent(accountNumber) != null) {
+                unknown.add(accountNumber);
+            } else {
+                misses.add(accountNumber);
+            }
+        }
+        
+        if (!misses.isEmpty()) {
+            for (AccountNumberResolution account : bankAccountRepository.findResolutionsByAccountNumbers(misses)) {
+                found.put(account.getAccountNumber(), account);
+                misses.remove(account.getAccountNumber());
+                remember(account.getAccountNumber(), account);
+            }
+            for (String accountNumber : misses) {
+                remember(accountNumber, null);
+            }
+        }
+        
+        List<AccountNumberBatchItemResult> results = new ArrayList<>(accountNumbers.size());
+        int resolved = 0;
+        for (int i = 0; i < accountNumbers.size(); i++) {
+            AccountNumberResolution account = found.get(accountNumbers.get(i));
+            if (account == null) {
+                results.add(new AccountNumberBatchItemResult(i, HttpStatus.NOT_FOUND.value(), null,
+                    "Bank account not found with number: " + accountNumbers.get(i)));
+            } else if (!account.getUserId().equals(authenticatedUserId)) {
+                results.add(new AccountNumberBatchItemResult(i, HttpStatus.FORBIDDEN.value(), null, FORBIDDEN));
+            } else {
+                resolved++;
+                results.add(new AccountNumberBatchItemResult(i, HttpStatus.OK.value(), account, null));
+            }
+        }
+        return new AccountNumberBatchResponse(resolved, accountNumbers.size() - resolved, results);
+    }
+    
+    // Called when an account is created or deleted. Evicted again after the surrounding transaction
+    // completes, so a lookup racing the commit cannot leave a stale entry behind.
+    public void evict(String accountNumber) {
+        accountNumberCache.invalidate(accountNumber);
+        unknownAccountNumberCache.invalidate(accountNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accountNumberCache.invalidate(accountNumber);
+                    unknownAccountNumberCache.invalidate(accountNumber);
+                }
+            });
+        }
+    }
+    
+    private void remember(String accountNumber, AccountNumberResolution account) {
+        if (account != null) {
+            accountNumberCache.put(accountNumber, account);
+        } else {
+            unknownAccountNumberCache.put(accountNumber, Boolean.TRUE);
+        }
+    }
+}
\ No newline at end of file
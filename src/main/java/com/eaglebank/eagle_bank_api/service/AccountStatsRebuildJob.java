@@ -0,0 +1,94 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+
+/**
+ * Verifies the incrementally maintained account_stats rows against the transactions table.
+ * Accounts are checked in chunks on a small thread pool; accounts that look off are then
+ * re-checked one by one under their row lock and, if enabled, repaired.
+ */
+@Component
+public class AccountStatsRebuildJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(AccountStatsRebuildJob.class);
+    
+    private final AccountStatsService accountStatsService;
+    private final BankAccountRepository bankAccountRepository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean repair;
+    
+    @Autowired
+    public AccountStatsRebuildJob(AccountStatsService accountStatsService,
+                                  BankAccountRepository bankAccountRepository,
+                                  @Value("${eaglebank.stats.rebuild.chunk-size:500}") int chunkSize,
+                                  @Value("${eaglebank.stats.rebuild.parallelism:4}") int parallelism,
+                                  @Value("${eaglebank.stats.rebuild.repair:true}") boolean repair) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be positive");
+        }
+        this.accountStatsService = accountStatsService;
+        this.bankAccountRepository = bankAccountRepository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.repair = repair;
+    }
+    
+    @Scheduled(cron = "${eaglebank.stats.rebuild.cron:-}")
+    public void run() {
+        List<Long> drifted = rebuild();
+        if (drifted.isEmpty()) {
+            log.info("Account stats verified, no drift found");
+        } else {
+            log.warn("Account stats drifted for {} account(s){}: {}",
+                drifted.size(), repair ? " (repaired)" : "", drifted);
+        }
+    }
+    
+    // Returns the ids of the accounts whose stored totals did not match their transactions
+    public List<Long> rebuild() {
+        List<Long> accountIds = bankAccountRepository.findAllAccountIds();
+        List<Long> candidates = new ArrayList<>();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<List<Long>>> chunks = new ArrayList<>();
+            for (int from = 0; from < accountIds.size(); from += chunkSize) {
+                List<Long> chunk = accountIds.subList(from, Math.min(from + chunkSize, accountIds.size()));
+                chunks.add(executor.submit(() -> accountStatsService.findDriftCandidates(chunk)));
+            }
+            for (Future<List<Long>> chunk : chunks) {
+                candidates.addAll(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying account stats", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Account stats verification failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        List<Long> drifted = new ArrayList<>();
+        for (Long accountId : candidates) {
+            if (accountStatsService.reconcile(accountId, repair)) {
+                drifted.add(accountId);
+            }
+        }
+        return drifted;
+    }
+}
\ No newline at end of file
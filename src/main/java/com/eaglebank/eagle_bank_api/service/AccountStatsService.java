@@ -0,0 +1,137 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.eagle_bank_api.entity.AccountStats;
+import com.eaglebank.eagle_bank_api.entity.ArchivedAccountTotals;
+import com.eaglebank.eagle_bank_api.entity.Transaction;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.repository.AccountStatsRepository;
+import com.eaglebank.eagle_bank_api.repository.ArchivedAccountTotalsRepository;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+
+@Service
+@Transactional
+public class AccountStatsService {
+    
+    private final AccountStatsRepository accountStatsRepository;
+    private final TransactionRepository transactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final ArchivedAccountTotalsRepository archivedAccountTotalsRepository;
+    
+    @Autowired
+    public AccountStatsService(AccountStatsRepository accountStatsRepository,
+                               TransactionRepository transactionRepository,
+                               BankAccountRepository bankAccountRepository,
+                               ArchivedAccountTotalsRepository archivedAccountTotalsRepository) {
+        this.accountStatsRepository = accountStatsRepository;
+        this.transactionRepository = transactionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.archivedAccountTotalsRepository = archivedAccountTotalsRepository;
+    }
+    
+    // Folds freshly saved transactions into their accounts' running totals, one UPDATE per account.
+    // Must run in the posting's transaction after the balance update, whose row lock serializes
+    // concurrent postings to the same account.
+    public void recordPostings(List<Transaction> transactions) {
+        Map<Long, AccountStats> deltas = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            AccountStats delta = deltas.computeIfAbsent(transaction.getBankAccount().getAccountId(), AccountStats::empty);
+            if (TransactionType.fromValue(transaction.getTransactionType()).isCredit()) {
+                delta.setTotalDeposits(delta.getTotalDeposits().add(transaction.getAmount()));
+            } else {
+                delta.setTotalWithdrawals(delta.getTotalWithdrawals().add(transaction.getAmount()));
+            }
+            delta.setTransactionCount(delta.getTransactionCount() + 1);
+            if (delta.getLastActivityAt() == null || transaction.getTransactionDate().isAfter(delta.getLastActivityAt())) {
+                delta.setLastActivityAt(transaction.getTransactionDate());
+            }
+        }
+        
+        for (AccountStats delta : deltas.values()) {
+            int updated = accountStatsRepository.increment(delta.getAccountId(), delta.getTotalDeposits(),
+                delta.getTotalWithdrawals(), delta.getTransactionCount(), delta.getLastActivityAt());
+            if (updated == 0) {
+                // Account predates stats tracking: seed its row from the full history (including this posting)
+                accountStatsRepository.save(computeStats(delta.getAccountId()));
+            }
+        }
+    }
+    
+    // Lock-free first pass of the drift check: compares stored totals of a chunk of accounts with
+    // totals recomputed from the transactions table (plus archived totals). Postings committing in between can show up as
+    // false positives, which reconcile() weeds out under the account lock.
+    @Transactional(readOnly = true)
+    public List<Long> findDriftCandidates(List<Long> accountIds) {
+        Map<Long, AccountStats> computed = byAccountId(transactionRepository.aggregateStatsByAccountIds(accountIds));
+        Map<Long, AccountStats> stored = byAccountId(accountStatsRepository.findAllById(accountIds));
+        Map<Long, ArchivedAccountTotals> archived = new HashMap<>();
+        for (ArchivedAccountTotals totals : archivedAccountTotalsRepository.findAllById(accountIds)) {
+            archived.put(totals.getAccountId(), totals);
+        }
+        
+        List<Long> candidates = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            AccountStats expected = computed.getOrDefault(accountId, AccountStats.empty(accountId));
+            if (archived.containsKey(accountId)) {
+                expected = archived.get(accountId).addTo(expected);
+            }
+            AccountStats actual = stored.get(accountId);
+            if (actual == null || !actual.sameTotalsAs(expected)) {
+                candidates.add(accountId);
+            }
+        }
+        return candidates;
+    }
+    
+    // Re-checks one account while holding its row lock, so no posting can interleave, and optionally
+    // overwrites the stored totals. Returns whether the stored totals had drifted.
+    public boolean reconcile(Long accountId, boolean repair) {
+        if (bankAccountRepository.findByIdForUpdate(accountId).isEmpty()) {
+            return false; // deleted since the first pass
+        }
+        AccountStats expected = computeStats(accountId);
+        AccountStats actual = accountStatsRepository.findById(accountId).orElse(null);
+        if (actual != null && actual.sameTotalsAs(expected)) {
+            return false;
+        }
+        
+        if (repair) {
+            if (actual == null) {
+                accountStatsRepository.save(expected);
+            } else {
+                actual.setTotalDeposits(expected.getTotalDeposits());
+                actual.setTotalWithdrawals(expected.getTotalWithdrawals());
+                actual.setTransactionCount(expected.getTransactionCount());
+                actual.setLastActivityAt(expected.getLastActivityAt());
+            }
+        }
+        return true;
+    }
+    
+    private AccountStats computeStats(Long accountId) {
+        AccountStats stats = transactionRepository.aggregateStatsByAccountIds(List.of(accountId)).stream()
+            .findFirst()
+            .orElseGet(() -> AccountStats.empty(accountId));
+        return archivedAccountTotalsRepository.findById(accountId)
+            .map(archived -> archived.addTo(stats))
+            .orElse(stats);
+    }
+    
+    private Map<Long, AccountStats> byAccountId(List<AccountStats> stats) {
+        Map<Long, AccountStats> map = new HashMap<>();
+        for (AccountStats stat : stats) {
+            map.put(stat.getAccountId(), stat);
+        }
+        return map;
+    }
+}
\ No newline at end of file
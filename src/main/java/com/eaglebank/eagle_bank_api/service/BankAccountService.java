@@ -1,33 +1,60 @@
 package com.eaglebank.eagle_bank_api.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.eaglebank.eagle_bank_api.cache.BoundedTtlCache;
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
 import com.eaglebank.eagle_bank_api.dto.BankAccountCreateRequest;
 import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
 import com.eaglebank.eagle_bank_api.dto.BankAccountUpdateRequest;
+import com.eaglebank.eagle_bank_api.entity.AccountStats;
 import com.eaglebank.eagle_bank_api.entity.BankAccount;
 import com.eaglebank.eagle_bank_api.entity.User;
+import com.eaglebank.eagle_bank_api.exception.ConflictException;
 import com.eaglebank.eagle_bank_api.exception.ForbiddenException;
 import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.journal.AccountLedgers;
+import com.eaglebank.eagle_bank_api.repository.AccountStatsRepository;
 import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
 import com.eaglebank.eagle_bank_api.repository.UserRepository;
 
 @Service
 @Transactional
+@Timed("eaglebank.service")
 public class BankAccountService {
     
     private final BankAccountRepository bankAccountRepository;
     private final UserRepository userRepository;
+    private final AccountStatsRepository accountStatsRepository;
+    private final BoundedTtlCache<Long, Long> accountOwnerCache;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final AccountNumberResolver accountNumberResolver;
+    private final AccountLedgers accountLedgers;
     
     @Autowired
-    public BankAccountService(BankAccountRepository bankAccountRepository, UserRepository userRepository) {
+    public BankAccountService(BankAccountRepository bankAccountRepository, UserRepository userRepository,
+                              AccountStatsRepository accountStatsRepository,
+                              BoundedTtlCache<Long, Long> accountOwnerCache,
+                              AccountNumberGenerator accountNumberGenerator,
+                              AccountNumberResolver accountNumberResolver,
+                              AccountLedgers accountLedgers) {
         this.bankAccountRepository = bankAccountRepository;
         this.userRepository = userRepository;
+        this.accountStatsRepository = accountStatsRepository;
+        this.accountOwnerCache = accountOwnerCache;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.accountNumberResolver = accountNumberResolver;
+        this.accountLedgers = accountLedgers;
     }
     
     public BankAccountResponse createBankAccount(Long authenticatedUserId, BankAccountCreateRequest request) {
@@ -40,30 +67,51 @@ public class BankAccountService {
             request.getInitialBalance(),
             user
         );
+        bankAccount.setAccountNumber(accountNumberGenerator.next());
         
         BankAccount savedAccount = bankAccountRepository.save(bankAccount);
+        accountStatsRepository.save(AccountStats.empty(savedAccount.getAccountId()));
+        evictOwner(savedAccount.getAccountId());
+        accountNumberResolver.evict(savedAccount.getAccountNumber());
         return convertToBankAccountResponse(savedAccount);
     }
     
     public List<BankAccountResponse> getUserBankAccounts(Long authenticatedUserId) {
-        List<BankAccount> accounts = bankAccountRepository.findByUserUserId(authenticatedUserId);
-        return accounts.stream()
-            .map(this::convertToBankAccountResponse)
-            .collect(Collectors.toList());
+        return bankAccountRepository.findResponsesByUserId(authenticatedUserId);
+    }
+    
+    // One aggregate row, so unchanged account lists are answered without loading them
+    public String getUserBankAccountsETag(Long authenticatedUserId) {
+        return bankAccountRepository.findAccountsVersionByUserId(authenticatedUserId).toETag("accounts");
     }
     
     public BankAccountResponse getBankAccountById(Long accountId, Long authenticatedUserId) {
-        BankAccount account = bankAccountRepository.findById(accountId)
+        BankAccountResponse account = bankAccountRepository.findResponseById(accountId)
             .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
         
         // Check if account belongs to authenticated user
-        if (!account.getUser().getUserId().equals(authenticatedUserId)) {
+        if (!account.getUserId().equals(authenticatedUserId)) {
             throw new ForbiddenException("You can only access your own bank accounts");
         }
         
-        return convertToBankAccountResponse(account);
+        return account;
+    }
+    
+    // Starting point of an account's event stream; later events with a higher transaction id supersede it
+    public BalanceEvent getBalanceSnapshot(Long accountId, Long authenticatedUserId) {
+        validateOwnership(accountId, authenticatedUserId);
+        return bankAccountRepository.findBalanceEventById(accountId)
+            .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
+    }
+    
+    // Balance plus the running totals kept in account_stats; no scan of the transactions table
+    public AccountSummaryResponse getAccountSummary(Long accountId, Long authenticatedUserId) {
+        validateOwnership(accountId, authenticatedUserId);
+        return accountStatsRepository.findSummary(accountId)
+            .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
     }
     
+    @RetryOnConcurrencyFailure
     public BankAccountResponse updateBankAccount(Long accountId, Long authenticatedUserId, BankAccountUpdateRequest request) {
         BankAccount account = bankAccountRepository.findById(accountId)
             .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
@@ -85,6 +133,7 @@ public class BankAccountService {
         return convertToBankAccountResponse(updatedAccount);
     }
     
+    @RetryOnConcurrencyFailure
     public void deleteBankAccount(Long accountId, Long authenticatedUserId) {
         BankAccount account = bankAccountRepository.findById(accountId)
             .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
@@ -94,21 +143,48 @@ public class BankAccountService {
             throw new ForbiddenException("You can only delete your own bank accounts");
         }
         
-        bankAccountRepository.delete(account);
+        // Journaled postings are already acknowledged, so the account stays until they are projected
+        accountLedgers.lockUntilCompletion(accountId);
+        if (accountLedgers.hasUnprojected(accountId)) {
+            throw new ConflictException("Bank account has transactions still being processed, please retry shortly");
+        }
+        
+        accountStatsRepository.deleteByAccountId(accountId);
+        bankAccountRepository.softDelete(accountId, LocalDateTime.now());
+        evictOwner(accountId);
+        accountNumberResolver.evict(account.getAccountNumber());
     }
     
-    public BankAccount findByIdAndValidateOwnership(Long accountId, Long authenticatedUserId) {
-        BankAccount account = bankAccountRepository.findById(accountId)
-            .orElseThrow(() -> new ResourceNotFoundException("Bank account not found with ID: " + accountId));
+    // Ownership rarely changes, so the owner id is served from an in-process cache and only a miss
+    // costs a (single column) query
+    public void validateOwnership(Long accountId, Long authenticatedUserId) {
+        Long ownerId = accountOwnerCache.get(accountId,
+            id -> bankAccountRepository.findOwnerIdByAccountId(id).orElse(null));
+        if (ownerId == null) {
+            throw new ResourceNotFoundException("Bank account not found with ID: " + accountId);
+        }
         
-        if (!account.getUser().getUserId().equals(authenticatedUserId)) {
+        if (!ownerId.equals(authenticatedUserId)) {
             throw new ForbiddenException("You can only access your own bank accounts");
         }
-        
-        return account;
     }
     
-    private BankAccountResponse convertToBankAccountResponse(BankAccount account) {
+    // Evicted again after the surrounding transaction completes, so a lookup racing the commit cannot
+    // cache the old owner (or a missing account) for the full TTL
+    private void evictOwner(Long accountId) {
+        accountOwnerCache.invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accountOwnerCache.invalidate(accountId);
+                }
+            });
+        }
+    }
+    
+    // Package-private so the mapping benchmarks can reach it
+    BankAccountResponse convertToBankAccountResponse(BankAccount account) {
         return new BankAccountResponse(
             account.getAccountId(),
             account.getAccountName(),
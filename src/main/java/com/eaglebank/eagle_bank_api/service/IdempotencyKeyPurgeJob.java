@@ -0,0 +1,61 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expires stored Idempotency-Key records once they are older than the retention period. Rows are
+ * deleted oldest first in bounded batches, each in its own short transaction, so a large backlog
+ * never turns into one long-running delete.
+ */
+@Component
+public class IdempotencyKeyPurgeJob {
+    
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurgeJob.class);
+    
+    private final IdempotencyService idempotencyService;
+    private final Duration retention;
+    private final int batchSize;
+    
+    @Autowired
+    public IdempotencyKeyPurgeJob(IdempotencyService idempotencyService,
+                                  @Value("${eaglebank.transactions.idempotency.ttl-hours:24}") long ttlHours,
+                                  @Value("${eaglebank.transactions.idempotency.purge-batch-size:1000}") int batchSize) {
+        if (ttlHours < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Idempotency TTL and purge batch size must be positive");
+        }
+        this.idempotencyService = idempotencyService;
+        this.retention = Duration.ofHours(ttlHours);
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(fixedDelayString = "${eaglebank.transactions.idempotency.purge-interval-ms:600000}",
+               initialDelayString = "${eaglebank.transactions.idempotency.purge-interval-ms:600000}")
+    public void run() {
+        int purged = purgeExpired();
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency key(s)", purged);
+        }
+    }
+    
+    public int purgeExpired() {
+        return purgeCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+    
+    public int purgeCreatedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyService.purgeBatch(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
\ No newline at end of file
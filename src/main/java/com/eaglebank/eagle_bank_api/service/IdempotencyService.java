@@ -0,0 +1,121 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eaglebank.eagle_bank_api.cache.BoundedTtlCache;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.entity.IdempotencyRecord;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.repository.IdempotencyRecordRepository;
+
+/**
+ * Remembers the outcome of transaction requests sent with an Idempotency-Key so a retried request
+ * gets the original response instead of posting twice. Records are written in the posting's own
+ * database transaction, and a bounded in-memory cache in front of the table answers repeated
+ * retries without a query.
+ */
+@Service
+@Transactional
+public class IdempotencyService {
+    
+    public static final int MAX_KEY_LENGTH = 255;
+    
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final BoundedTtlCache<String, IdempotencyRecord> idempotencyCache;
+    
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              BoundedTtlCache<String, IdempotencyRecord> idempotencyCache) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotencyCache = idempotencyCache;
+    }
+    
+    // Returns the original response if this key was already used for the same request. Reusing a key
+    // for a different request is rejected rather than silently answered with the old result.
+    public Optional<TransactionResponse> findPrevious(String scopedKey, String requestHash) {
+        IdempotencyRecord record = idempotencyCache.getIfPresent(scopedKey);
+        if (record == null) {
+            record = idempotencyRecordRepository.findById(scopedKey).orElse(null);
+            if (record == null) {
+                return Optional.empty();
+            }
+            idempotencyCache.put(scopedKey, record);
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new UnprocessableEntityException("Idempotency-Key was already used for a different request");
+        }
+        return Optional.of(record.toResponse());
+    }
+    
+    // Must run in the posting's transaction so the key and the posting commit or roll back together.
+    // A concurrent request with the same key fails on the primary key here; the ConcurrencyFailureException
+    // rolls its posting back and the retry then finds this request's committed record.
+    public void record(String scopedKey, String requestHash, TransactionResponse response) {
+        IdempotencyRecord record = new IdempotencyRecord(scopedKey, requestHash, response);
+        try {
+            idempotencyRecordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConcurrencyFailureException("Idempotency-Key is already being processed", e);
+        }
+        
+        // Only committed records may be served from the cache
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idempotencyCache.put(scopedKey, record);
+                }
+            });
+        } else {
+            idempotencyCache.put(scopedKey, record);
+        }
+    }
+    
+    // Deletes up to batchSize records created before the cutoff in one statement; returns how many went
+    public int purgeBatch(LocalDateTime cutoff, int batchSize) {
+        List<String> keys = idempotencyRecordRepository.findKeysCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        return idempotencyRecordRepository.deleteByKeys(keys);
+    }
+    
+    // Keys are per user, so two users can pick the same key without colliding
+    public static String scopedKey(Long userId, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        return userId + ":" + idempotencyKey;
+    }
+    
+    // Fingerprint of everything that affects the posting; amounts compare by value (10.0 == 10.00)
+    public static String requestHash(Long accountId, TransactionCreateRequest request) {
+        String canonical = accountId + "\n"
+            + request.getTransactionType() + "\n"
+            + request.getAmount().stripTrailingZeros().toPlainString() + "\n"
+            + Objects.toString(request.getDescription(), "");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
\ No newline at end of file
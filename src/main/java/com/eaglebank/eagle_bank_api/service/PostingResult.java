@@ -0,0 +1,29 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+
+/**
+ * Outcome of a single posting inside a batch: either the stored transaction or the
+ * error that rejected it. A rejected item never affects the balance.
+ */
+public class PostingResult {
+    private final TransactionResponse transaction;
+    private final RuntimeException error;
+    
+    private PostingResult(TransactionResponse transaction, RuntimeException error) {
+        this.transaction = transaction;
+        this.error = error;
+    }
+    
+    public static PostingResult succeeded(TransactionResponse transaction) {
+        return new PostingResult(transaction, null);
+    }
+    
+    public static PostingResult failed(RuntimeException error) {
+        return new PostingResult(null, error);
+    }
+    
+    public boolean isSuccess() { return error == null; }
+    public TransactionResponse getTransaction() { return transaction; }
+    public RuntimeException getError() { return error; }
+}
\ No newline at end of file
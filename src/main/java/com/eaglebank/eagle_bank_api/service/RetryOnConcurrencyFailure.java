@@ -0,0 +1,26 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+/**
+ * Retries a write that lost a race with a concurrent one (an optimistic lock failure, a lock
+ * timeout, or an idempotency key already being processed) with a short randomized backoff. Each
+ * attempt runs in a fresh transaction, so it sees the winner's committed state.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(retryFor = ConcurrencyFailureException.class,
+           maxAttemptsExpression = "${eaglebank.transactions.retry.max-attempts:3}",
+           backoff = @Backoff(delayExpression = "${eaglebank.transactions.retry.backoff-ms:10}",
+                              multiplier = 2, random = true))
+public @interface RetryOnConcurrencyFailure {
+}
\ No newline at end of file
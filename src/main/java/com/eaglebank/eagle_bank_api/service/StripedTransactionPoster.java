@@ -0,0 +1,264 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.exception.TooManyRequestsException;
+
+/**
+ * Serializes postings per account in memory before they reach the database. Accounts are
+ * hashed onto a fixed number of stripes; each stripe has a bounded queue drained by a single
+ * writer that coalesces queued postings for the same account into one {@link TransactionService#postBatch}
+ * call. Different stripes drain in parallel, and a full stripe queue is reported as 429.
+ * Queue depth and the per-stripe counters are published as eaglebank.transactions.stripe.*.
+ */
+@Component
+@ConditionalOnProperty(name = "eaglebank.transactions.striping.enabled", havingValue = "true")
+public class StripedTransactionPoster implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedTransactionPoster.class);
+
+    private final TransactionService transactionService;
+    private final BankAccountService bankAccountService;
+    private final Stripe[] stripes;
+    private final ExecutorService drainers;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    @Autowired
+    public StripedTransactionPoster(TransactionService transactionService,
+                                    BankAccountService bankAccountService,
+                                    @Value("${eaglebank.transactions.striping.stripes:16}") int stripeCount,
+                                    @Value("${eaglebank.transactions.striping.queue-capacity:256}") int queueCapacity,
+                                    @Value("${eaglebank.transactions.striping.max-batch-size:64}") int maxBatchSize,
+                                    @Value("${eaglebank.transactions.striping.timeout-ms:5000}") long timeoutMillis) {
+        if (stripeCount < 1 || queueCapacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Stripe count, queue capacity and batch size must be positive");
+        }
+        this.transactionService = transactionService;
+        this.bankAccountService = bankAccountService;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(queueCapacity);
+        }
+        this.drainers = Executors.newFixedThreadPool(stripeCount, new DrainerThreadFactory());
+    }
+
+    public TransactionResponse post(Long accountId, Long authenticatedUserId, TransactionCreateRequest request) {
+        // Ownership is checked on the caller's thread so the writer only ever sees authorized postings
+        bankAccountService.validateOwnership(accountId, authenticatedUserId);
+
+        Stripe stripe = stripeFor(accountId);
+        PendingPosting posting = new PendingPosting(accountId, request);
+        if (!stripe.queue.offer(posting)) {
+            stripe.rejected.increment();
+            throw new TooManyRequestsException("Too many pending transactions for this account, please retry later");
+        }
+        stripe.submitted.increment();
+        scheduleDrain(stripe);
+        return await(stripe, posting);
+    }
+
+    private TransactionResponse await(Stripe stripe, PendingPosting posting) {
+        try {
+            try {
+                return unwrap(posting.result.get(timeoutMillis, TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                if (posting.state.compareAndSet(PendingPosting.QUEUED, PendingPosting.ABANDONED)) {
+                    stripe.rejected.increment();
+                    throw new TooManyRequestsException("Transaction queue for this account is saturated, please retry later");
+                }
+                // The writer already picked it up; its outcome is decided, so wait for it
+                return unwrap(posting.result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for transaction posting", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Transaction posting failed", e.getCause());
+        }
+    }
+
+    private TransactionResponse unwrap(PostingResult result) {
+        if (!result.isSuccess()) {
+            throw result.getError();
+        }
+        return result.getTransaction();
+    }
+
+    private Stripe stripeFor(Long accountId) {
+        return stripes[Math.floorMod(Long.hashCode(accountId * 0x9E3779B97F4A7C15L), stripes.length)];
+    }
+
+    private void scheduleDrain(Stripe stripe) {
+        if (stripe.draining.compareAndSet(false, true)) {
+            drainers.execute(() -> drain(stripe));
+        }
+    }
+
+    private void drain(Stripe stripe) {
+        List<PendingPosting> batch = new ArrayList<>(maxBatchSize);
+        do {
+            while (stripe.queue.drainTo(batch, maxBatchSize) > 0) {
+                apply(batch);
+                stripe.batches.increment();
+                batch.clear();
+            }
+            stripe.draining.set(false);
+            // Re-check: a producer may have enqueued after our last drainTo but before the flag reset
+        } while (!stripe.queue.isEmpty() && stripe.draining.compareAndSet(false, true));
+    }
+
+    private void apply(List<PendingPosting> batch) {
+        Map<Long, List<PendingPosting>> byAccount = new LinkedHashMap<>();
+        for (PendingPosting posting : batch) {
+            if (posting.state.compareAndSet(PendingPosting.QUEUED, PendingPosting.CLAIMED)) {
+                byAccount.computeIfAbsent(posting.accountId, id -> new ArrayList<>()).add(posting);
+            }
+        }
+
+        for (Map.Entry<Long, List<PendingPosting>> entry : byAccount.entrySet()) {
+            List<PendingPosting> postings = entry.getValue();
+            List<TransactionCreateRequest> requests = new ArrayList<>(postings.size());
+            for (PendingPosting posting : postings) {
+                requests.add(posting.request);
+            }
+            try {
+                List<PostingResult> results = transactionService.postBatch(entry.getKey(), requests);
+                for (int i = 0; i < postings.size(); i++) {
+                    postings.get(i).result.complete(results.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.debug("Batch of {} postings for account {} failed", postings.size(), entry.getKey(), e);
+                for (PendingPosting posting : postings) {
+                    posting.result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    public int getQueueDepth(int stripe) {
+        return stripes[stripe].queue.size();
+    }
+
+    public long getSubmittedCount(int stripe) {
+        return stripes[stripe].submitted.sum();
+    }
+
+    public long getRejectedCount(int stripe) {
+        return stripes[stripe].rejected.sum();
+    }
+
+    public long getBatchCount(int stripe) {
+        return stripes[stripe].batches.sum();
+    }
+
+    // One meter per stripe, so a hot stripe (or a skewed account hash) stands out
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = stripes[i];
+            String tag = Integer.toString(i);
+            Gauge.builder("eaglebank.transactions.stripe.depth", stripe, s -> s.queue.size())
+                .tag("stripe", tag)
+                .description("Postings waiting in the stripe queue")
+                .register(registry);
+            FunctionCounter.builder("eaglebank.transactions.stripe.submitted", stripe, s -> s.submitted.sum())
+                .tag("stripe", tag)
+                .description("Postings accepted into the stripe queue")
+                .register(registry);
+            FunctionCounter.builder("eaglebank.transactions.stripe.rejected", stripe, s -> s.rejected.sum())
+                .tag("stripe", tag)
+                .description("Postings refused because the stripe queue was full or did not drain in time")
+                .register(registry);
+            FunctionCounter.builder("eaglebank.transactions.stripe.batches", stripe, s -> s.batches.sum())
+                .tag("stripe", tag)
+                .description("Batches drained from the stripe queue")
+                .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        drainers.shutdown();
+        if (!drainers.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            drainers.shutdownNow();
+        }
+    }
+
+    private static final class Stripe {
+        private final ArrayBlockingQueue<PendingPosting> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+
+        private Stripe(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    private static final class PendingPosting {
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int ABANDONED = 2;
+
+        private final Long accountId;
+        private final TransactionCreateRequest request;
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final CompletableFuture<PostingResult> result = new CompletableFuture<>();
+
+        private PendingPosting(Long accountId, TransactionCreateRequest request) {
+            this.accountId = accountId;
+            this.request = request;
+        }
+    }
+
+    private static final class DrainerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "transaction-stripe-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
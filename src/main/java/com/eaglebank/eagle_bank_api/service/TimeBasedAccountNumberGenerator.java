@@ -0,0 +1,92 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock-free account numbers of the form {@code EB} + 19 digits + a Luhn check digit. The 19 digits
+ * encode a 63-bit value laid out as [41 bits milliseconds since 2024-01-01][10 bits node id][12 bits
+ * sequence]. Timestamp and sequence share one {@link AtomicLong}, advanced by CAS to
+ * max(previous + 1, now), so numbers from one instance are strictly increasing even if the clock
+ * steps back. More than 4096 numbers in a millisecond borrow from the next millisecond instead of
+ * waiting. Instances sharing a database need distinct {@code eaglebank.accounts.number.node-id}s.
+ */
+@Component
+public class TimeBasedAccountNumberGenerator implements AccountNumberGenerator {
+    
+    public static final String PREFIX = "EB";
+    public static final int LENGTH = PREFIX.length() + 20;
+    
+    static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int[] LUHN_DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9}; // 2d with digits summed
+    
+    private final long nodeBits;
+    private final LongSupplier clock;
+    private final AtomicLong lastStamp = new AtomicLong(); // (millis since epoch << SEQUENCE_BITS) | sequence
+    
+    @Autowired
+    public TimeBasedAccountNumberGenerator(@Value("${eaglebank.accounts.number.node-id:0}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+    
+    TimeBasedAccountNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Account number node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+    
+    @Override
+    public String next() {
+        long floor = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long stamp = lastStamp.accumulateAndGet(floor, (previous, now) -> Math.max(previous + 1, now));
+        long millis = stamp >>> SEQUENCE_BITS;
+        return format((millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (stamp & SEQUENCE_MASK));
+    }
+    
+    // Writes the value as 19 zero-padded digits and appends its Luhn check digit
+    static String format(long value) {
+        char[] chars = new char[LENGTH];
+        chars[0] = 'E';
+        chars[1] = 'B';
+        int sum = 0;
+        boolean doubled = true; // the digit next to the check digit is doubled
+        for (int i = LENGTH - 2; i >= PREFIX.length(); i--) {
+            int digit = (int) (value % 10);
+            value /= 10;
+            chars[i] = (char) ('0' + digit);
+            sum += doubled ? LUHN_DOUBLED[digit] : digit;
+            doubled = !doubled;
+        }
+        chars[LENGTH - 1] = (char) ('0' + (10 - sum % 10) % 10);
+        return new String(chars);
+    }
+    
+    // Whether the number has this generator's shape and a correct check digit (catches any single
+    // mistyped digit and most swaps of adjacent digits)
+    public static boolean isValid(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != LENGTH || !accountNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = LENGTH - 1; i >= PREFIX.length(); i--) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            sum += doubled ? LUHN_DOUBLED[c - '0'] : c - '0';
+            doubled = !doubled;
+        }
+        return sum % 10 == 0;
+    }
+}
\ No newline at end of file
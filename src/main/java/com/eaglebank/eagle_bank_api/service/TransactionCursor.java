@@ -0,0 +1,46 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction history: the (transactionDate, transactionId) of the
+ * last row on a page, Base64url encoded. Clients pass it back as {@code after} to continue.
+ */
+public final class TransactionCursor {
+    
+    private final LocalDateTime transactionDate;
+    private final Long transactionId;
+    
+    public TransactionCursor(LocalDateTime transactionDate, Long transactionId) {
+        this.transactionDate = transactionDate;
+        this.transactionId = transactionId;
+    }
+    
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                LocalDateTime.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException, as are Base64 errors
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
+    public String encode() {
+        String raw = transactionDate + "|" + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public LocalDateTime getTransactionDate() { return transactionDate; }
+    public Long getTransactionId() { return transactionId; }
+}
\ No newline at end of file
@@ -4,6 +4,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.annotation.Timed;
+
 import com.eaglebank.eagle_bank_api.dto.UserCreateRequest;
 import com.eaglebank.eagle_bank_api.dto.UserResponse;
 import com.eaglebank.eagle_bank_api.dto.UserUpdateRequest;
@@ -15,6 +17,7 @@ import com.eaglebank.eagle_bank_api.repository.UserRepository;
 
 @Service
 @Transactional
+@Timed("eaglebank.service")
 public class UserService {
     
     private final UserRepository userRepository;
@@ -102,6 +105,8 @@ public class UserService {
             throw new ConflictException("Cannot delete user with existing bank accounts");
         }
         
+        userRepository.purgeDeletedAccountTransactions(userId);
+        userRepository.purgeDeletedAccounts(userId);
         userRepository.delete(user);
     }
     
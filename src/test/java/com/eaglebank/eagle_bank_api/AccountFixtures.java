@@ -0,0 +1,55 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import com.eaglebank.eagle_bank_api.dto.BankAccountCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.UserCreateRequest;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.UserService;
+
+/**
+ * Creates users and accounts through the services for the integration tests.
+ * Brought into a test's context with {@code @Import(AccountFixtures.class)}.
+ */
+@TestComponent
+class AccountFixtures {
+
+    // Static so emails stay unique when test classes share a cached context and database
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    private final UserService userService;
+    private final BankAccountService bankAccountService;
+
+    @Autowired
+    AccountFixtures(UserService userService, BankAccountService bankAccountService) {
+        this.userService = userService;
+        this.bankAccountService = bankAccountService;
+    }
+
+    Long createUser() {
+        int n = USER_SEQUENCE.incrementAndGet();
+        UserCreateRequest request = new UserCreateRequest();
+        request.setFirstName("Test");
+        request.setLastName("User");
+        request.setEmail("user" + n + "@example.com");
+        request.setPhoneNumber("1234567890");
+        request.setAddress("1 Test Street");
+        return userService.createUser(request).getUserId();
+    }
+
+    Long createAccount(Long userId, BigDecimal initialBalance) {
+        return createAccount(userId, "Test Account", initialBalance);
+    }
+
+    Long createAccount(Long userId, String accountName, BigDecimal initialBalance) {
+        BankAccountCreateRequest request = new BankAccountCreateRequest();
+        request.setAccountName(accountName);
+        request.setAccountType("CHECKING");
+        request.setInitialBalance(initialBalance);
+        return bankAccountService.createBankAccount(userId, request).getAccountId();
+    }
+}
@@ -0,0 +1,101 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.entity.AccountStats;
+import com.eaglebank.eagle_bank_api.repository.AccountStatsRepository;
+import com.eaglebank.eagle_bank_api.service.AccountStatsRebuildJob;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "eaglebank.stats.rebuild.chunk-size=2"
+})
+@Import(AccountFixtures.class)
+class AccountStatsIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountStatsRepository accountStatsRepository;
+
+    @Autowired
+    private AccountStatsRebuildJob accountStatsRebuildJob;
+
+    @Test
+    void postings_AreReflectedInSummary() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        transactionService.createTransaction(accountId, userId, request("DEPOSIT", "500.00"));
+        transactionService.createTransaction(accountId, userId, request("WITHDRAWAL", "200.00"));
+        transactionService.postAccountBatch(accountId, userId,
+            List.of(request("DEPOSIT", "50.00"), request("WITHDRAWAL", "10000.00"), request("DEPOSIT", "25.00")));
+
+        AccountSummaryResponse summary = bankAccountService.getAccountSummary(accountId, userId);
+
+        assertEquals(0, new BigDecimal("1375.00").compareTo(summary.getBalance()));
+        assertEquals(0, new BigDecimal("575.00").compareTo(summary.getTotalDeposits()));
+        assertEquals(0, new BigDecimal("200.00").compareTo(summary.getTotalWithdrawals()));
+        assertEquals(4L, summary.getTransactionCount());
+        assertNotNull(summary.getLastActivityAt());
+    }
+
+    @Test
+    void rebuild_DetectsAndRepairsDrift() {
+        Long userId = fixtures.createUser();
+        Long healthyAccount = fixtures.createAccount(userId, INITIAL_BALANCE);
+        Long driftedAccount = fixtures.createAccount(userId, INITIAL_BALANCE);
+        transactionService.createTransaction(healthyAccount, userId, request("DEPOSIT", "10.00"));
+        transactionService.createTransaction(driftedAccount, userId, request("DEPOSIT", "20.00"));
+        transactionService.createTransaction(driftedAccount, userId, request("WITHDRAWAL", "5.00"));
+
+        // Simulate drift: lose the stats row's withdrawal
+        AccountStats stats = accountStatsRepository.findById(driftedAccount).orElseThrow();
+        stats.setTotalWithdrawals(BigDecimal.ZERO);
+        stats.setTransactionCount(1L);
+        accountStatsRepository.save(stats);
+
+        List<Long> drifted = accountStatsRebuildJob.rebuild();
+
+        assertTrue(drifted.contains(driftedAccount));
+        assertFalse(drifted.contains(healthyAccount));
+        AccountSummaryResponse summary = bankAccountService.getAccountSummary(driftedAccount, userId);
+        assertEquals(0, new BigDecimal("5.00").compareTo(summary.getTotalWithdrawals()));
+        assertEquals(2L, summary.getTransactionCount());
+        assertFalse(accountStatsRebuildJob.rebuild().contains(driftedAccount));
+    }
+
+    private TransactionCreateRequest request(String type, String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType(type);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
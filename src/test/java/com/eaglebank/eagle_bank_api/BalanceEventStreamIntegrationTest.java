@@ -0,0 +1,141 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.events.BalanceEventHub;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Opens real event streams against the embedded Tomcat: the first event is the current balance,
+ * every committed posting follows, and another user is refused before a stream is opened.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:balanceeventsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+})
+@Import(AccountFixtures.class)
+class BalanceEventStreamIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceEventHub balanceEventHub;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void stream_SendsSnapshotThenCommittedChanges() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        Long otherAccountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        HttpResponse<Stream<String>> response = client.sendAsync(streamRequest(accountId, userId),
+            HttpResponse.BodyHandlers.ofLines()).get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> events = lines.iterator();
+
+            JsonNode snapshot = nextEvent(events);
+            assertEquals(accountId, snapshot.get("accountId").asLong());
+            assertEquals(0, new BigDecimal("100.00").compareTo(snapshot.get("balance").decimalValue()));
+
+            deposit(accountId, userId, "50.00");
+            JsonNode deposited = nextEvent(events);
+            assertEquals(0, new BigDecimal("150.00").compareTo(deposited.get("balance").decimalValue()));
+
+            // A transfer moves both accounts; this stream only hears about its own
+            TransferRequest transfer = new TransferRequest();
+            transfer.setFromAccountId(otherAccountId);
+            transfer.setToAccountId(accountId);
+            transfer.setAmount(new BigDecimal("25.00"));
+            transactionService.transfer(userId, transfer);
+            JsonNode transferred = nextEvent(events);
+            assertEquals(accountId, transferred.get("accountId").asLong());
+            assertEquals(0, new BigDecimal("175.00").compareTo(transferred.get("balance").decimalValue()));
+            assertTrue(transferred.get("transactionId").asLong() > deposited.get("transactionId").asLong());
+        }
+    }
+
+    @Test
+    void stream_OtherUsersAccount_IsForbidden() throws Exception {
+        Long ownerId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(ownerId, INITIAL_BALANCE);
+        Long otherUserId = fixtures.createUser();
+        int subscribers = balanceEventHub.getSubscriberCount();
+
+        HttpResponse<String> response = client.send(streamRequest(accountId, otherUserId),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode());
+        assertEquals(subscribers, balanceEventHub.getSubscriberCount());
+    }
+
+    private HttpRequest streamRequest(Long accountId, Long userId) {
+        // Errors are answered as JSON before the stream starts
+        return HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + "/api/v1/accounts/" + accountId + "/events"))
+            .header("X-User-Id", userId.toString())
+            .header("Accept", "text/event-stream, application/json")
+            .GET()
+            .build();
+    }
+
+    // Skips heartbeat comments, ids and event names up to the next data line
+    private JsonNode nextEvent(Iterator<String> events) {
+        return assertTimeoutPreemptively(TIMEOUT, () -> {
+            while (events.hasNext()) {
+                String line = events.next();
+                if (line.startsWith("data:")) {
+                    return objectMapper.readTree(line.substring("data:".length()));
+                }
+            }
+            throw new AssertionError("Stream ended before the next event");
+        });
+    }
+
+    private void deposit(Long accountId, Long userId, String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType("DEPOSIT");
+        request.setAmount(new BigDecimal(amount));
+        transactionService.createTransaction(accountId, userId, request);
+    }
+}
@@ -0,0 +1,118 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eaglebank.eagle_bank_api.entity.BankAccount;
+import com.eaglebank.eagle_bank_api.entity.Transaction;
+import com.eaglebank.eagle_bank_api.entity.User;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.repository.UserRepository;
+import com.eaglebank.eagle_bank_api.service.AccountNumberGenerator;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that bulk inserts of every generated-id entity go out as JDBC batches: the number of
+ * prepared statements must track the number of batches and id blocks, not the number of rows.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:batchinsertdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=" + BulkInsertBatchingTest.BATCH_SIZE,
+    "spring.jpa.properties.eaglebank.id.allocation-size=" + BulkInsertBatchingTest.ALLOCATION_SIZE
+})
+class BulkInsertBatchingTest {
+
+    static final int BATCH_SIZE = 50;
+    static final int ALLOCATION_SIZE = 100;
+    private static final int ROWS = 500;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void sequencesUseConfiguredAllocationSize() {
+        for (String sequence : List.of("USERS_SEQ", "BANK_ACCOUNTS_SEQ", "TRANSACTIONS_SEQ")) {
+            Long increment = jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequence);
+            assertEquals(ALLOCATION_SIZE, increment, sequence);
+        }
+    }
+
+    @Test
+    void bulkInsert_StatementsPerBatchNotPerRow() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            users.add(new User("Batch", "Tester", "batch" + i + "@example.com", "1234567890", "1 Batch Street"));
+        }
+        assertBatched("users", () -> userRepository.saveAll(users));
+
+        List<BankAccount> accounts = new ArrayList<>();
+        for (User user : users) {
+            BankAccount account = new BankAccount("Batch Account", "CHECKING", new BigDecimal("100.00"), user);
+            account.setAccountNumber(accountNumberGenerator.next());
+            accounts.add(account);
+        }
+        assertBatched("bank_accounts", () -> bankAccountRepository.saveAll(accounts));
+
+        List<Transaction> transactions = new ArrayList<>();
+        for (BankAccount account : accounts) {
+            transactions.add(new Transaction(new BigDecimal("10.00"), "DEPOSIT", "batch", new BigDecimal("110.00"), account));
+        }
+        assertBatched("transactions", () -> transactionRepository.saveAll(transactions));
+    }
+
+    private void assertBatched(String table, Runnable insert) {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> insert.run());
+
+        long statements = statistics.getPrepareStatementCount();
+        // One INSERT statement per JDBC batch plus one sequence call per block of ids
+        long ceiling = (long) Math.ceil((double) ROWS / BATCH_SIZE) + (long) Math.ceil((double) ROWS / ALLOCATION_SIZE) + 1;
+        assertEquals(ROWS, statistics.getEntityInsertCount(), table);
+        assertTrue(statements <= ceiling, table + ": " + statements + " statements for " + ROWS + " rows");
+    }
+}
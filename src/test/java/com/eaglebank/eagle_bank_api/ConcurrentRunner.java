@@ -0,0 +1,46 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the same worker on many threads at once for the stress tests. All threads are released
+ * together so they contend from the first call, and any worker failure is rethrown.
+ */
+final class ConcurrentRunner {
+
+    @FunctionalInterface
+    interface Worker {
+        void run(int threadIndex) throws Exception;
+    }
+
+    private ConcurrentRunner() {
+    }
+
+    static void run(int threads, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    worker.run(threadIndex);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eaglebank.eagle_bank_api.dto.BankAccountUpdateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs against the embedded Tomcat, since compression happens in the connector and is invisible
+ * to MockMvc: checks the ETag round trip on the account list and history, and that only bodies
+ * above the size threshold are gzipped.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:conditionalgetdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "server.compression.min-response-size=1KB"
+})
+@Import(AccountFixtures.class)
+class ConditionalGetIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void accountHistory_RevalidatesWithETagAndGzipsLargePages() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, "History Account", INITIAL_BALANCE);
+        for (int i = 0; i < 20; i++) {
+            deposit(accountId, userId, "10.00");
+        }
+        String path = "/v1/accounts/" + accountId + "/transactions";
+
+        HttpResponse<byte[]> first = get(path, userId, null);
+        assertEquals(200, first.statusCode());
+        assertEquals("gzip", first.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals(20, objectMapper.readTree(gunzip(first.body())).size());
+        String eTag = first.headers().firstValue("ETag").orElseThrow();
+        assertTrue(eTag.startsWith("W/\""), eTag);
+
+        HttpResponse<byte[]> unchanged = get(path, userId, eTag);
+        assertEquals(304, unchanged.statusCode());
+        assertEquals(0, unchanged.body().length);
+
+        deposit(accountId, userId, "5.00");
+
+        HttpResponse<byte[]> changed = get(path, userId, eTag);
+        assertEquals(200, changed.statusCode());
+        assertEquals(21, objectMapper.readTree(gunzip(changed.body())).size());
+        assertNotEquals(eTag, changed.headers().firstValue("ETag").orElseThrow());
+    }
+
+    @Test
+    void accountList_ChangesETagOnUpdateAndDelete() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, "Small List", INITIAL_BALANCE);
+
+        HttpResponse<byte[]> first = get("/v1/accounts", userId, null);
+        assertEquals(200, first.statusCode());
+        // A single account is below the 1KB threshold and goes out uncompressed
+        assertTrue(first.headers().firstValue("Content-Encoding").isEmpty());
+        String eTag = first.headers().firstValue("ETag").orElseThrow();
+        assertEquals(304, get("/v1/accounts", userId, eTag).statusCode());
+
+        BankAccountUpdateRequest rename = new BankAccountUpdateRequest();
+        rename.setAccountName("Renamed");
+        bankAccountService.updateBankAccount(accountId, userId, rename);
+        HttpResponse<byte[]> renamed = get("/v1/accounts", userId, eTag);
+        assertEquals(200, renamed.statusCode());
+        String renamedETag = renamed.headers().firstValue("ETag").orElseThrow();
+
+        bankAccountService.deleteBankAccount(accountId, userId);
+        HttpResponse<byte[]> deleted = get("/v1/accounts", userId, renamedETag);
+        assertEquals(200, deleted.statusCode());
+        assertEquals(0, objectMapper.readTree(deleted.body()).size());
+    }
+
+    @Test
+    void accountList_ChangesETagWhenOlderTimestampedPostingCommitsLast() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, "Racing Account", INITIAL_BALANCE);
+        deposit(accountId, userId, "10.00");
+        String eTag = get("/v1/accounts", userId, null).headers().firstValue("ETag").orElseThrow();
+
+        // A posting that read the clock before the deposit above but waited for the row lock
+        // commits afterwards with an older updatedAt
+        LocalDateTime earlier = LocalDateTime.now().minusMinutes(1);
+        transactionTemplate.executeWithoutResult(status ->
+            bankAccountRepository.credit(accountId, new BigDecimal("5.00"), earlier));
+
+        HttpResponse<byte[]> changed = get("/v1/accounts", userId, eTag);
+        assertEquals(200, changed.statusCode());
+        assertEquals(0, new BigDecimal("115.00")
+            .compareTo(objectMapper.readTree(changed.body()).get(0).get("balance").decimalValue()));
+        assertNotEquals(eTag, changed.headers().firstValue("ETag").orElseThrow());
+    }
+
+    private HttpResponse<byte[]> get(String path, Long userId, String ifNoneMatch)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+            .uri(URI.create("http://localhost:" + port + "/api" + path))
+            .header("X-User-Id", userId.toString())
+            .header("Accept-Encoding", "gzip")
+            .GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void deposit(Long accountId, Long userId, String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType("DEPOSIT");
+        request.setAmount(new BigDecimal(amount));
+        transactionService.createTransaction(accountId, userId, request);
+    }
+}
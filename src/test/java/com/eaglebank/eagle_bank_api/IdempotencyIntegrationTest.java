@@ -0,0 +1,135 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.IdempotencyRecordRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.service.IdempotencyKeyPurgeJob;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:idempotencydb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "eaglebank.transactions.retry.max-attempts=10",
+    "eaglebank.transactions.idempotency.purge-batch-size=2"
+})
+@Import(AccountFixtures.class)
+class IdempotencyIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyKeyPurgeJob idempotencyKeyPurgeJob;
+
+    @Test
+    void retriedRequest_ReturnsOriginalResponseWithoutPostingAgain() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        TransactionResponse first = transactionService.createTransaction(accountId, userId, deposit("100.00"), "retry-1");
+        TransactionResponse second = transactionService.createTransaction(accountId, userId, deposit("100.0"), "retry-1");
+
+        assertEquals(first.getTransactionId(), second.getTransactionId());
+        assertEquals(0, first.getBalanceAfter().compareTo(second.getBalanceAfter()));
+        assertEquals(1L, transactionRepository.countByBankAccountAccountId(accountId));
+        assertEquals(0, new BigDecimal("1100.00").compareTo(bankAccountRepository.findBalanceByAccountId(accountId).orElseThrow()));
+    }
+
+    @Test
+    void reusedKeyWithDifferentRequest_IsRejected() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        transactionService.createTransaction(accountId, userId, deposit("100.00"), "reused");
+
+        assertThrows(UnprocessableEntityException.class,
+            () -> transactionService.createTransaction(accountId, userId, deposit("250.00"), "reused"));
+        assertEquals(1L, transactionRepository.countByBankAccountAccountId(accountId));
+    }
+
+    @Test
+    void concurrentRetries_PostExactlyOnce() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TransactionResponse>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return transactionService.createTransaction(accountId, userId, deposit("10.00"), "concurrent");
+            }));
+        }
+        start.countDown();
+
+        List<Long> transactionIds = new ArrayList<>();
+        for (Future<TransactionResponse> future : futures) {
+            transactionIds.add(future.get(1, TimeUnit.MINUTES).getTransactionId());
+        }
+        executor.shutdown();
+
+        assertEquals(1, transactionIds.stream().distinct().count());
+        assertEquals(1L, transactionRepository.countByBankAccountAccountId(accountId));
+        assertEquals(0, new BigDecimal("1010.00").compareTo(bankAccountRepository.findBalanceByAccountId(accountId).orElseThrow()));
+    }
+
+    @Test
+    void purge_RemovesExpiredKeysInBatches() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        for (int i = 0; i < 5; i++) {
+            transactionService.createTransaction(accountId, userId, deposit("1.00"), "purge-" + i);
+        }
+
+        int purged = idempotencyKeyPurgeJob.purgeCreatedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertEquals(5, purged);
+        assertFalse(idempotencyRecordRepository.existsById(userId + ":purge-0"));
+    }
+
+    private TransactionCreateRequest deposit(String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType("DEPOSIT");
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
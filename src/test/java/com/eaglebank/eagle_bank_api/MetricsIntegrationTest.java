@@ -0,0 +1,58 @@
+package com.eaglebank.eagle_bank_api;
+
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives a few requests and checks that the Prometheus scrape reports endpoint, service, repository
+ * and connection pool timers, and counts handled exceptions by type.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:metricsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "management.metrics.distribution.percentiles-histogram.eaglebank.service=true"
+})
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusScrape_ReportsTimersAndExceptionCounters() throws Exception {
+        mockMvc.perform(post("/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Metric\",\"lastName\":\"Reader\",\"email\":\"metrics@example.com\","
+                    + "\"phoneNumber\":\"1234567890\",\"address\":\"1 Gauge Lane\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/v1/users/999999").header("X-User-Id", "999999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_count{")))
+                .andExpect(content().string(containsString("uri=\"/v1/users\"")))
+                .andExpect(content().string(containsString("eaglebank_service_seconds_count{")))
+                .andExpect(content().string(containsString("class=\"com.eaglebank.eagle_bank_api.service.UserService\"")))
+                .andExpect(content().string(containsString("method=\"createUser\"")))
+                .andExpect(content().string(containsString("eaglebank_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count{")))
+                .andExpect(content().string(containsString("eaglebank_db_connection_acquire_seconds_count")))
+                .andExpect(content().string(containsString(
+                    "eaglebank_exceptions_total{exception=\"ResourceNotFoundException\",status=\"404\"} 1.0")));
+    }
+}
@@ -0,0 +1,61 @@
+package com.eaglebank.eagle_bank_api;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Boots the application with the perf profile and checks that it turns off SQL echo, sizes the
+ * pool from the core count and reports pool activity on the connection pool endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("perf")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:perfdb;QUERY_CACHE_SIZE=64",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class PerfProfileIntegrationTest {
+
+    private static final int EXPECTED_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2 + 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void perfProfile_DisablesSqlEchoAndSizesPool() throws Exception {
+        assertEquals("false", environment.getProperty("spring.jpa.show-sql"));
+        assertEquals("INFO", environment.getProperty("logging.level.org.springframework.web"));
+        assertEquals("false", environment.getProperty("spring.jackson.serialization.indent-output"));
+
+        mockMvc.perform(post("/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Pool\",\"lastName\":\"Watcher\",\"email\":\"pool@example.com\","
+                    + "\"phoneNumber\":\"1234567890\",\"address\":\"1 Pool Street\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/internal/connection-pool"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maximumPoolSize").value(EXPECTED_POOL_SIZE))
+                .andExpect(jsonPath("$.minimumIdle").value(EXPECTED_POOL_SIZE))
+                .andExpect(jsonPath("$.connectionTimeoutMs").value(2000))
+                .andExpect(jsonPath("$.acquisitions").value(greaterThan(0)))
+                .andExpect(jsonPath("$.activeConnections").value(0))
+                .andExpect(jsonPath("$.acquisitionTimeouts").value(0));
+    }
+}
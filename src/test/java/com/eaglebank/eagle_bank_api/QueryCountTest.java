@@ -0,0 +1,225 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the read endpoints against N+1 queries: the number of SQL statements a request issues
+ * must not grow with the number of accounts or transactions it returns.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:querycountdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(AccountFixtures.class)
+class QueryCountTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getUserBankAccounts_StatementCountIndependentOfAccountCount() throws Exception {
+        Long userId = fixtures.createUser();
+        fixtures.createAccount(userId, INITIAL_BALANCE);
+        long oneAccount = statementsFor("/v1/accounts", userId);
+
+        for (int i = 0; i < 9; i++) {
+            fixtures.createAccount(userId, INITIAL_BALANCE);
+        }
+        long tenAccounts = statementsFor("/v1/accounts", userId);
+
+        // The ETag lookup and the account list
+        assertEquals(2, oneAccount);
+        assertEquals(oneAccount, tenAccounts);
+    }
+
+    @Test
+    void getUserBankAccounts_NotModified_OnlyLooksUpETag() throws Exception {
+        Long userId = fixtures.createUser();
+        fixtures.createAccount(userId, INITIAL_BALANCE);
+        String eTag = mockMvc.perform(get("/v1/accounts").header("X-User-Id", userId.toString()))
+            .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mockMvc.perform(get("/v1/accounts").header("X-User-Id", userId.toString()).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getBankAccountById_SingleStatement() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        assertEquals(1, statementsFor("/v1/accounts/" + accountId, userId));
+    }
+
+    @Test
+    void getAccountTransactions_StatementCountIndependentOfPageSize() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        deposit(accountId, userId, 1);
+        long oneTransaction = statementsFor("/v1/accounts/" + accountId + "/transactions", userId);
+
+        deposit(accountId, userId, 24);
+        long manyTransactions = statementsFor("/v1/accounts/" + accountId + "/transactions", userId);
+
+        // Ownership is already cached by the deposits, so only the ETag lookup and the history page are queried
+        assertEquals(2, oneTransaction);
+        assertEquals(oneTransaction, manyTransactions);
+
+        String path = "/v1/accounts/" + accountId + "/transactions";
+        String eTag = mockMvc.perform(get(path).header("X-User-Id", userId.toString()))
+            .andReturn().getResponse().getHeader("ETag");
+        statistics.clear();
+        mockMvc.perform(get(path).header("X-User-Id", userId.toString()).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getUserTransactions_StatementCountIndependentOfAccountsAndTransactions() throws Exception {
+        Long userId = fixtures.createUser();
+        Long firstAccount = fixtures.createAccount(userId, INITIAL_BALANCE);
+        deposit(firstAccount, userId, 1);
+        long oneTransaction = statementsFor("/v1/accounts/transactions", userId);
+
+        Long secondAccount = fixtures.createAccount(userId, INITIAL_BALANCE);
+        deposit(firstAccount, userId, 10);
+        deposit(secondAccount, userId, 10);
+        long manyTransactions = statementsFor("/v1/accounts/transactions", userId);
+
+        assertEquals(1, oneTransaction);
+        assertEquals(oneTransaction, manyTransactions);
+    }
+
+    @Test
+    void getBalanceAsOf_SingleStatementRegardlessOfHistoryLength() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        deposit(accountId, userId, 25);
+
+        assertEquals(1, statementsFor("/v1/accounts/" + accountId + "/balance", userId));
+    }
+
+    @Test
+    void resolveAccountNumber_RepeatedLookupsServedFromCache() throws Exception {
+        Long userId = fixtures.createUser();
+        String accountNumber = bankAccountService.getBankAccountById(fixtures.createAccount(userId, INITIAL_BALANCE), userId).getAccountNumber();
+
+        assertEquals(1, statementsFor("/v1/accounts/by-number/" + accountNumber, userId));
+        assertEquals(0, statementsFor("/v1/accounts/by-number/" + accountNumber, userId));
+
+        // Unknown numbers are cached too
+        statistics.clear();
+        mockMvc.perform(get("/v1/accounts/by-number/EB-UNKNOWN").header("X-User-Id", userId.toString()))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/accounts/by-number/EB-UNKNOWN").header("X-User-Id", userId.toString()))
+            .andExpect(status().isNotFound());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void resolveAccountNumbers_SingleStatementForWholeBatch() throws Exception {
+        Long userId = fixtures.createUser();
+        List<String> accountNumbers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            accountNumbers.add(bankAccountService.getBankAccountById(fixtures.createAccount(userId, INITIAL_BALANCE), userId).getAccountNumber());
+        }
+        for (int i = 0; i < 5; i++) {
+            accountNumbers.add("EB-MISSING-" + i);
+        }
+        AccountNumberBatchRequest request = new AccountNumberBatchRequest();
+        request.setAccountNumbers(accountNumbers);
+
+        statistics.clear();
+        mockMvc.perform(post("/v1/accounts/by-number:batch")
+                .header("X-User-Id", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.resolved").value(20))
+            .andExpect(jsonPath("$.unresolved").value(5));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // Every number, known or not, is now cached
+        statistics.clear();
+        mockMvc.perform(post("/v1/accounts/by-number:batch")
+                .header("X-User-Id", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private long statementsFor(String path, Long userId) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(path).header("X-User-Id", userId.toString()))
+            .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void deposit(Long accountId, Long userId, int count) {
+        for (int i = 0; i < count; i++) {
+            TransactionCreateRequest request = new TransactionCreateRequest();
+            request.setTransactionType("DEPOSIT");
+            request.setAmount(new BigDecimal("1.00"));
+            transactionService.createTransaction(accountId, userId, request);
+        }
+    }
+}
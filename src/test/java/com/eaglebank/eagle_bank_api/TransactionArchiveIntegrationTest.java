@@ -0,0 +1,164 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.archive.TransactionArchiveJob;
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionPage;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.service.AccountStatsRebuildJob;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.eaglebank.eagle_bank_api.service.UserService;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archivedb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "eaglebank.transactions.archive.chunk-size=2",
+    "eaglebank.transactions.archive.delete-batch-size=1"
+})
+@Import(AccountFixtures.class)
+class TransactionArchiveIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("archive-test");
+        registry.add("eaglebank.transactions.archive.directory", directory::toString);
+    }
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionArchiveJob transactionArchiveJob;
+
+    @Autowired
+    private AccountStatsRebuildJob accountStatsRebuildJob;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivedTransactions_StayVisibleThroughHistoryBalanceAndSummary() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        List<Long> postedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            postedIds.add(transactionService.createTransaction(accountId, userId, deposit("10.00")).getTransactionId());
+        }
+        // The first three deposits become two years old
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(800);
+        for (int i = 0; i < 3; i++) {
+            backdate(postedIds.get(i), longAgo.plusDays(i));
+        }
+
+        int archived = transactionArchiveJob.archiveBefore(LocalDateTime.now().minusDays(365));
+
+        assertEquals(3, archived);
+        assertEquals(2L, transactionRepository.countByBankAccountAccountId(accountId));
+
+        // Paging walks from the table into the archive without gaps or repeats
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            TransactionPage page = transactionService.getAccountTransactions(accountId, userId, 2, cursor);
+            page.getTransactions().forEach(transaction -> pagedIds.add(transaction.getTransactionId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(List.of(postedIds.get(4), postedIds.get(3), postedIds.get(2), postedIds.get(1), postedIds.get(0)), pagedIds);
+
+        List<Long> exportedIds = new ArrayList<>();
+        transactionService.exportUserTransactions(userId, null, null,
+            transaction -> exportedIds.add(transaction.getTransactionId()));
+        assertEquals(pagedIds, exportedIds);
+
+        // Balance after the second deposit, which now only exists in the archive
+        BigDecimal balance = transactionService.getBalanceAsOf(accountId, userId, longAgo.plusDays(1).plusHours(1)).getBalance();
+        assertEquals(0, new BigDecimal("1020.00").compareTo(balance));
+
+        // Summary totals and the drift check account for archived rows
+        AccountSummaryResponse summary = bankAccountService.getAccountSummary(accountId, userId);
+        assertEquals(5L, summary.getTransactionCount());
+        assertEquals(0, new BigDecimal("50.00").compareTo(summary.getTotalDeposits()));
+        assertFalse(accountStatsRebuildJob.rebuild().contains(accountId));
+
+        // Nothing left to archive
+        assertEquals(0, transactionArchiveJob.archiveBefore(LocalDateTime.now().minusDays(365)));
+    }
+
+    @Test
+    void deleteBankAccount_SoftDeletesAndUserDeletionPurges() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        TransactionResponse posted = transactionService.createTransaction(accountId, userId, deposit("25.00"));
+
+        bankAccountService.deleteBankAccount(accountId, userId);
+
+        // The row and its history remain, but the account is gone from the API
+        assertEquals(1, count("SELECT COUNT(*) FROM bank_accounts WHERE account_id = ? AND deleted_at IS NOT NULL", accountId));
+        assertEquals(1, count("SELECT COUNT(*) FROM transactions WHERE transaction_id = ?", posted.getTransactionId()));
+        assertThrows(ResourceNotFoundException.class, () -> bankAccountService.getBankAccountById(accountId, userId));
+        assertThrows(ResourceNotFoundException.class, () -> bankAccountService.deleteBankAccount(accountId, userId));
+
+        userService.deleteUser(userId, userId);
+
+        assertEquals(0, count("SELECT COUNT(*) FROM bank_accounts WHERE account_id = ?", accountId));
+        assertEquals(0, count("SELECT COUNT(*) FROM transactions WHERE transaction_id = ?", posted.getTransactionId()));
+        assertNull(jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM users WHERE user_id = ?", Long.class, userId));
+    }
+
+    private void backdate(Long transactionId, LocalDateTime date) {
+        jdbcTemplate.update("UPDATE transactions SET transaction_date = ? WHERE transaction_id = ?",
+            Timestamp.valueOf(date), transactionId);
+    }
+
+    private int count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+
+    private TransactionCreateRequest deposit(String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType("DEPOSIT");
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
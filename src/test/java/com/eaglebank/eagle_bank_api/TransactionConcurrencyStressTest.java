@@ -0,0 +1,95 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+/**
+ * Hammers a single hot account with concurrent deposits and withdrawals and checks that
+ * every accepted posting is reflected in the final balance (no lost updates, no overdraft).
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:stressdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.eaglebank=INFO",
+    "eaglebank.transactions.retry.max-attempts=10"
+})
+@Import(AccountFixtures.class)
+class TransactionConcurrencyStressTest {
+
+    private static final int OPERATIONS_PER_THREAD = 100;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+    private static final BigDecimal DEPOSIT = new BigDecimal("10.00");
+    private static final BigDecimal WITHDRAWAL = new BigDecimal("15.00");
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @ParameterizedTest(name = "{0} threads")
+    @ValueSource(ints = {1, 4, 8, 16})
+    void concurrentPostings_NoLostUpdates(int threads) throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        AtomicInteger deposits = new AtomicInteger();
+        AtomicInteger withdrawals = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ConcurrentRunner.run(threads, threadIndex -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                boolean deposit = (i + threadIndex) % 2 == 0;
+                try {
+                    transactionService.createTransaction(accountId, userId,
+                        request(deposit ? "DEPOSIT" : "WITHDRAWAL", deposit ? DEPOSIT : WITHDRAWAL));
+                    (deposit ? deposits : withdrawals).incrementAndGet();
+                } catch (UnprocessableEntityException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        BigDecimal expected = INITIAL_BALANCE
+            .add(DEPOSIT.multiply(BigDecimal.valueOf(deposits.get())))
+            .subtract(WITHDRAWAL.multiply(BigDecimal.valueOf(withdrawals.get())));
+        BigDecimal actual = bankAccountRepository.findBalanceByAccountId(accountId).orElseThrow();
+
+        assertEquals(0, expected.compareTo(actual), "expected " + expected + " but was " + actual);
+        assertTrue(actual.signum() >= 0, "balance went negative: " + actual);
+        assertEquals((long) deposits.get() + withdrawals.get(),
+            transactionRepository.countByBankAccountAccountId(accountId));
+        assertEquals(threads * OPERATIONS_PER_THREAD, deposits.get() + withdrawals.get() + rejected.get());
+    }
+
+    private TransactionCreateRequest request(String type, BigDecimal amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType(type);
+        request.setAmount(amount);
+        request.setDescription("stress " + type.toLowerCase());
+        return request;
+    }
+}
@@ -0,0 +1,186 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+import com.eaglebank.eagle_bank_api.exception.ConflictException;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.journal.JournalRecord;
+import com.eaglebank.eagle_bank_api.journal.JournalProjector;
+import com.eaglebank.eagle_bank_api.journal.JournaledTransactionPoster;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.service.BankAccountService;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:journaldb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "eaglebank.transactions.journal.enabled=true",
+    "eaglebank.transactions.journal.segment-size-mb=1"
+})
+@Import(AccountFixtures.class)
+class TransactionJournalIntegrationTest {
+
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("journal-test");
+        registry.add("eaglebank.transactions.journal.directory", directory::toString);
+    }
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private JournaledTransactionPoster journaledPoster;
+
+    @Autowired
+    private JournalProjector journalProjector;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void postings_AreAcknowledgedAndProjected() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        TransactionResponse deposit = journaledPoster.post(accountId, userId, request("DEPOSIT", "500.00"));
+        TransactionResponse withdrawal = journaledPoster.post(accountId, userId, request("WITHDRAWAL", "200.00"));
+
+        assertNotNull(deposit.getTransactionId());
+        assertEquals(0, new BigDecimal("1500.00").compareTo(deposit.getBalanceAfter()));
+        assertEquals(0, new BigDecimal("1300.00").compareTo(withdrawal.getBalanceAfter()));
+
+        awaitUntil(() -> transactionRepository.countByBankAccountAccountId(accountId) == 2);
+        assertEquals(0, new BigDecimal("1300.00").compareTo(bankAccountRepository.findBalanceByAccountId(accountId).orElseThrow()));
+        assertTrue(transactionRepository.existsById(withdrawal.getTransactionId()));
+        assertTrue(journalProjector.getAppliedSequence() >= 2);
+
+        AccountSummaryResponse summary = bankAccountService.getAccountSummary(accountId, userId);
+        assertEquals(2L, summary.getTransactionCount());
+        assertEquals(0, new BigDecimal("500.00").compareTo(summary.getTotalDeposits()));
+    }
+
+    @Test
+    void withdrawal_CountsPostingsNotYetProjected() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        journaledPoster.post(accountId, userId, request("WITHDRAWAL", "600.00"));
+
+        // Whether or not the first withdrawal has been projected yet, only 400.00 is left
+        assertThrows(UnprocessableEntityException.class,
+            () -> journaledPoster.post(accountId, userId, request("WITHDRAWAL", "600.00")));
+    }
+
+    @Test
+    void transfer_CannotSpendBalanceClaimedByJournaledWithdrawal() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+        Long otherAccountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        journaledPoster.post(accountId, userId, request("WITHDRAWAL", "1000.00"));
+
+        // The stored balance may still read 1000.00, but all of it is already spoken for
+        TransferRequest transfer = new TransferRequest();
+        transfer.setFromAccountId(accountId);
+        transfer.setToAccountId(otherAccountId);
+        transfer.setAmount(new BigDecimal("1000.00"));
+        assertThrows(UnprocessableEntityException.class, () -> transactionService.transfer(userId, transfer));
+        assertThrows(UnprocessableEntityException.class,
+            () -> transactionService.createTransaction(accountId, userId, request("WITHDRAWAL", "1.00")));
+
+        awaitUntil(() -> transactionRepository.countByBankAccountAccountId(accountId) == 1);
+        assertEquals(0, BigDecimal.ZERO.compareTo(bankAccountRepository.findBalanceByAccountId(accountId).orElseThrow()));
+        assertEquals(0, new BigDecimal("1000.00").compareTo(bankAccountRepository.findBalanceByAccountId(otherAccountId).orElseThrow()));
+    }
+
+    @Test
+    void directPosting_ReportsBalanceIncludingJournaledPostings() {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        journaledPoster.post(accountId, userId, request("DEPOSIT", "500.00"));
+        TransactionResponse withdrawal = transactionService.createTransaction(accountId, userId, request("WITHDRAWAL", "300.00"));
+
+        assertEquals(0, new BigDecimal("1200.00").compareTo(withdrawal.getBalanceAfter()));
+    }
+
+    @Test
+    void delete_WaitsForUnprojectedPostings() throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountId = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        TransactionResponse deposit = journaledPoster.post(accountId, userId, request("DEPOSIT", "50.00"));
+        try {
+            bankAccountService.deleteBankAccount(accountId, userId);
+        } catch (ConflictException e) {
+            // Still in the journal: refused until projected
+            awaitUntil(() -> transactionRepository.existsById(deposit.getTransactionId()));
+            bankAccountService.deleteBankAccount(accountId, userId);
+        }
+
+        // Either way the acknowledged deposit reached the table before the account went
+        assertTrue(transactionRepository.existsById(deposit.getTransactionId()));
+    }
+
+    @Test
+    void projector_RecordForMissingAccount_FailsInsteadOfDropping() {
+        JournalRecord orphan = new JournalRecord(journalProjector.getAppliedSequence() + 1_000_000, 999_999_999L,
+            999_999_999L, TransactionType.DEPOSIT, new BigDecimal("1.00"), new BigDecimal("1.00"), LocalDateTime.now(), null);
+
+        assertThrows(IllegalStateException.class, () -> journalProjector.apply(List.of(orphan)));
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "journal was not projected in time");
+    }
+
+    private TransactionCreateRequest request(String type, String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setTransactionType(type);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
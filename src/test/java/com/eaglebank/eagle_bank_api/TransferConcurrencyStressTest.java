@@ -0,0 +1,99 @@
+package com.eaglebank.eagle_bank_api;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
+import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+
+/**
+ * Runs opposing transfers (A to B and B to A) between the same two accounts from many threads.
+ * Ordered locking must let every call finish (no deadlock), and money must be neither created
+ * nor destroyed.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:transferstressdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.eaglebank=INFO",
+    "eaglebank.transactions.retry.max-attempts=10"
+})
+@Import(AccountFixtures.class)
+class TransferConcurrencyStressTest {
+
+    private static final int TRANSFERS_PER_THREAD = 100;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("200.00");
+    private static final BigDecimal AMOUNT = new BigDecimal("15.00");
+
+    @Autowired
+    private AccountFixtures fixtures;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @ParameterizedTest(name = "{0} threads")
+    @ValueSource(ints = {2, 8, 16})
+    void opposingTransfers_NoDeadlockAndBalanceConserved(int threads) throws Exception {
+        Long userId = fixtures.createUser();
+        Long accountA = fixtures.createAccount(userId, INITIAL_BALANCE);
+        Long accountB = fixtures.createAccount(userId, INITIAL_BALANCE);
+
+        AtomicInteger transferred = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        ConcurrentRunner.run(threads, threadIndex -> {
+            // Half the threads move money A -> B, the other half B -> A
+            boolean forward = threadIndex % 2 == 0;
+            for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                try {
+                    transactionService.transfer(userId,
+                        forward ? request(accountA, accountB) : request(accountB, accountA));
+                    transferred.incrementAndGet();
+                } catch (UnprocessableEntityException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        BigDecimal balanceA = bankAccountRepository.findBalanceByAccountId(accountA).orElseThrow();
+        BigDecimal balanceB = bankAccountRepository.findBalanceByAccountId(accountB).orElseThrow();
+        BigDecimal total = balanceA.add(balanceB);
+
+        assertEquals(0, INITIAL_BALANCE.multiply(BigDecimal.valueOf(2)).compareTo(total),
+            "money was created or destroyed: " + balanceA + " + " + balanceB);
+        assertTrue(balanceA.signum() >= 0 && balanceB.signum() >= 0,
+            "balance went negative: " + balanceA + ", " + balanceB);
+        assertEquals(2L * transferred.get(),
+            transactionRepository.countByBankAccountAccountId(accountA)
+                + transactionRepository.countByBankAccountAccountId(accountB));
+        assertEquals(threads * TRANSFERS_PER_THREAD, transferred.get() + rejected.get());
+    }
+
+    private TransferRequest request(Long from, Long to) {
+        TransferRequest request = new TransferRequest();
+        request.setFromAccountId(from);
+        request.setToAccountId(to);
+        request.setAmount(AMOUNT);
+        request.setDescription("stress transfer");
+        return request;
+    }
+}
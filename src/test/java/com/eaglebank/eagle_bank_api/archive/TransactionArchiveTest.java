@@ -0,0 +1,118 @@
+package com.eaglebank.eagle_bank_api.archive;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+
+class TransactionArchiveTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2023, 3, 1, 9, 15, 30, 123456000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_RoundTripsEveryFieldAcrossReopen() {
+        TransactionResponse deposit = new TransactionResponse(
+            10L, new BigDecimal("100.00"), "DEPOSIT", "Salary", new BigDecimal("1100.00"), START, 7L);
+        TransactionResponse transferOut = new TransactionResponse(
+            11L, new BigDecimal("0.5"), "TRANSFER_OUT", null, new BigDecimal("1099.50"), START.plusSeconds(1), 7L,
+            8L, "4f1c2d3e-0000-4000-8000-000000000001");
+        new TransactionArchive(directory.toString()).append(List.of(deposit, transferOut));
+
+        TransactionArchive reopened = new TransactionArchive(directory.toString());
+        assertTrue(reopened.hasArchivedRows());
+        List<TransactionResponse> rows = reopened.findHistory(List.of(7L), null, null, 10);
+
+        assertEquals(2, rows.size());
+        TransactionResponse first = rows.get(0);
+        assertEquals(11L, first.getTransactionId());
+        assertEquals(new BigDecimal("0.50"), first.getAmount());
+        assertEquals("TRANSFER_OUT", first.getTransactionType());
+        assertNull(first.getDescription());
+        assertEquals(new BigDecimal("1099.50"), first.getBalanceAfter());
+        assertEquals(START.plusSeconds(1), first.getTransactionDate());
+        assertEquals(8L, first.getCounterpartyAccountId());
+        assertEquals("4f1c2d3e-0000-4000-8000-000000000001", first.getTransferId());
+        TransactionResponse second = rows.get(1);
+        assertEquals("Salary", second.getDescription());
+        assertEquals(START, second.getTransactionDate());
+        assertNull(second.getCounterpartyAccountId());
+        assertNull(second.getTransferId());
+    }
+
+    @Test
+    void findHistory_PagesByKeysetAcrossFiles() {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        assertFalse(archive.hasArchivedRows());
+        // Two chunks, each mixing two accounts
+        archive.append(rows(1, 10));
+        archive.append(rows(11, 20));
+
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime beforeDate = null;
+        Long beforeId = null;
+        List<TransactionResponse> page;
+        do {
+            page = archive.findHistory(List.of(1L), beforeDate, beforeId, 3);
+            for (TransactionResponse row : page) {
+                ids.add(row.getTransactionId());
+            }
+            if (!page.isEmpty()) {
+                beforeDate = page.get(page.size() - 1).getTransactionDate();
+                beforeId = page.get(page.size() - 1).getTransactionId();
+            }
+        } while (page.size() == 3);
+
+        // Odd ids belong to account 1, newest first, with no gaps or repeats at the file boundary
+        assertEquals(List.of(19L, 17L, 15L, 13L, 11L, 9L, 7L, 5L, 3L, 1L), ids);
+    }
+
+    @Test
+    void pointLookups_FindNeighboursOfInstant() {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        archive.append(rows(1, 10));
+        archive.append(rows(11, 20));
+        LocalDateTime between = START.plusMinutes(12).plusSeconds(30);
+
+        assertEquals(11L, archive.findLastAtOrBefore(1L, between).orElseThrow().getTransactionId());
+        assertEquals(13L, archive.findFirstAfter(1L, between).orElseThrow().getTransactionId());
+        assertEquals(12L, archive.findLastAtOrBefore(2L, between).orElseThrow().getTransactionId());
+        assertTrue(archive.findLastAtOrBefore(1L, START.minusDays(1)).isEmpty());
+        assertTrue(archive.findFirstAfter(2L, START.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void forEachInRange_StreamsRangeBelowKeyNewestFirst() {
+        TransactionArchive archive = new TransactionArchive(directory.toString());
+        archive.append(rows(1, 10));
+        archive.append(rows(11, 20));
+        List<Long> ids = new ArrayList<>();
+
+        archive.forEachInRange(List.of(1L, 2L), START.plusMinutes(4), START.plusMinutes(14),
+            START.plusMinutes(13), 14L, row -> ids.add(row.getTransactionId()));
+
+        assertEquals(List.of(13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L, 5L, 4L), ids);
+    }
+
+    // Transaction n is posted n minutes after START, on account 1 for odd n and account 2 for even n
+    private List<TransactionResponse> rows(int from, int to) {
+        List<TransactionResponse> rows = new ArrayList<>();
+        for (long n = from; n <= to; n++) {
+            rows.add(new TransactionResponse(n, new BigDecimal("10.00"), "DEPOSIT", "row " + n,
+                new BigDecimal(n * 10).setScale(2), START.plusMinutes(n), n % 2 == 1 ? 1L : 2L));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,78 @@
+package com.eaglebank.eagle_bank_api.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+    private AtomicLong now;
+    private BoundedTtlCache<Long, Long> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new BoundedTtlCache<>("test", 2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void get_SecondLookupIsServedWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(7L, cache.get(1L, id -> { loads.incrementAndGet(); return 7L; }));
+        assertEquals(7L, cache.get(1L, id -> { loads.incrementAndGet(); return 7L; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_NullFromLoaderIsNotCached() {
+        assertNull(cache.get(1L, id -> null));
+        assertEquals(0, cache.size());
+        assertEquals(5L, cache.get(1L, id -> 5L));
+    }
+
+    @Test
+    void getIfPresent_ExpiredEntryIsEvicted() {
+        cache.put(1L, 7L);
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void put_OverCapacityEvictsOldestEntry() {
+        cache.put(1L, 10L);
+        cache.put(2L, 20L);
+        cache.put(3L, 30L);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getIfPresent(1L));
+        assertEquals(30L, cache.getIfPresent(3L));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void invalidate_RemovesEntryAndLeftoversDoNotEvictLiveEntries() {
+        for (long i = 0; i < 10; i++) {
+            cache.put(1L, i);
+            cache.invalidate(1L);
+        }
+        cache.put(2L, 20L);
+        cache.put(3L, 30L);
+
+        assertNull(cache.getIfPresent(1L));
+        assertEquals(20L, cache.getIfPresent(2L));
+        assertEquals(30L, cache.getIfPresent(3L));
+        assertEquals(0, cache.getEvictionCount());
+    }
+}
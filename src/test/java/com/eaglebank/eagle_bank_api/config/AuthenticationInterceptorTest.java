@@ -0,0 +1,51 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AuthenticationInterceptorTest {
+
+    private final AuthenticationInterceptor interceptor = new AuthenticationInterceptor();
+
+    @Test
+    void isUsersCollection_MatchesSameUrisAsRegex() {
+        String[] uris = {"/api/v1/users", "/api/v1/users/", "/v1/users", "/api/v1/users/1",
+            "/api/v1/users//", "/api/v1/usersx", "/api/v2/users", "", "/"};
+        for (String uri : uris) {
+            assertEquals(uri.matches(".*/v1/users/?$"), AuthenticationInterceptor.isUsersCollection(uri), uri);
+        }
+    }
+
+    @Test
+    void preHandle_ValidHeader_StoresParsedUserId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        request.addHeader("X-User-Id", "42");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        assertEquals(42L, request.getAttribute(AuthenticationInterceptor.USER_ID_ATTRIBUTE));
+    }
+
+    @Test
+    void preHandle_UserRegistration_SkipsAuthentication() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users");
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        assertNull(request.getAttribute(AuthenticationInterceptor.USER_ID_ATTRIBUTE));
+    }
+
+    @Test
+    void preHandle_InvalidHeader_WritesBadRequestBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts");
+        request.addHeader("X-User-Id", "abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        assertEquals(400, response.getStatus());
+        assertEquals("{\"message\":\"Invalid user ID format\",\"status\":400}", response.getContentAsString());
+    }
+}
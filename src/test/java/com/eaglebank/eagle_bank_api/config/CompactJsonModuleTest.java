@@ -0,0 +1,69 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class CompactJsonModuleTest {
+
+    private final ObjectMapper javaTimeMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private final ObjectMapper compactMapper = javaTimeMapper.copy().registerModule(new CompactJsonModule());
+
+    @Test
+    void localDateTime_MatchesJavaTimeModuleOutput() throws JsonProcessingException {
+        List<LocalDateTime> dates = List.of(
+            LocalDateTime.of(2024, 1, 5, 9, 3),
+            LocalDateTime.of(2024, 12, 31, 23, 59, 59),
+            LocalDateTime.of(2023, 3, 1, 9, 15, 30, 123456000),
+            LocalDateTime.of(2023, 3, 1, 9, 15, 30, 100000000),
+            LocalDateTime.of(2023, 3, 1, 9, 15, 30, 1),
+            LocalDateTime.of(2023, 3, 1, 9, 15, 30, 999999999),
+            LocalDateTime.of(7, 6, 1, 0, 0),
+            LocalDateTime.of(-44, 3, 15, 12, 0),
+            LocalDateTime.of(10000, 1, 1, 0, 0));
+
+        for (LocalDateTime date : dates) {
+            assertEquals(javaTimeMapper.writeValueAsString(date), compactMapper.writeValueAsString(date));
+        }
+    }
+
+    @Test
+    void localDateTime_WithTimestampsEnabled_WritesArray() throws JsonProcessingException {
+        LocalDateTime date = LocalDateTime.of(2024, 1, 5, 9, 3, 7);
+
+        assertEquals("[2024,1,5,9,3,7]",
+            compactMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(date));
+    }
+
+    @Test
+    void bigDecimal_IsWrittenInPlainNotation() throws JsonProcessingException {
+        assertEquals("125.50", compactMapper.writeValueAsString(new BigDecimal("125.50")));
+        assertEquals("-0.01", compactMapper.writeValueAsString(new BigDecimal("-0.01")));
+        assertEquals("1000", compactMapper.writeValueAsString(new BigDecimal("1E+3")));
+        assertEquals("0.0000001", compactMapper.writeValueAsString(new BigDecimal("1E-7")));
+        assertEquals("0.000001", compactMapper.writeValueAsString(new BigDecimal("0.000001")));
+    }
+
+    @Test
+    void transactionResponse_SerializesLikeDefaultMapper() throws JsonProcessingException {
+        TransactionResponse transaction = new TransactionResponse(42L, new BigDecimal("125.50"), "TRANSFER_OUT",
+            null, new BigDecimal("10250.75"), LocalDateTime.of(2024, 2, 29, 18, 45, 12, 500000000), 7L,
+            8L, "4f1c2d3e-0000-4000-8000-000000000001");
+
+        assertEquals(javaTimeMapper.writeValueAsString(transaction), compactMapper.writeValueAsString(transaction));
+    }
+}
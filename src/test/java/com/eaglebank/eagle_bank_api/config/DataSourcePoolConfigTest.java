@@ -0,0 +1,68 @@
+package com.eaglebank.eagle_bank_api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.eaglebank.eagle_bank_api.dto.ConnectionPoolStatsResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+class DataSourcePoolConfigTest {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void poolSize_IsCoresTimesConnectionsPerCorePlusSpindles() {
+        assertEquals(17, DataSourcePoolConfig.poolSize(8, 2, 1));
+        assertEquals(4, DataSourcePoolConfig.poolSize(4, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> DataSourcePoolConfig.poolSize(4, 0, 1));
+    }
+
+    @Test
+    void customize_AutoSize_SizesFixedPoolFromCores() {
+        HikariDataSource dataSource = new HikariDataSource();
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("eaglebank.datasource.pool.auto-size", "true");
+
+        DataSourcePoolConfig.customize(dataSource, environment, metrics);
+
+        assertEquals(CORES * 2 + 1, dataSource.getMaximumPoolSize());
+        assertEquals(CORES * 2 + 1, dataSource.getMinimumIdle());
+        assertSame(metrics, dataSource.getMetricsTrackerFactory());
+    }
+
+    @Test
+    void customize_ExplicitMaximumPoolSize_IsKept() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(5);
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("eaglebank.datasource.pool.auto-size", "true")
+            .withProperty(DataSourcePoolConfig.MAXIMUM_POOL_SIZE, "5");
+
+        DataSourcePoolConfig.customize(dataSource, environment, new ConnectionPoolMetrics());
+
+        assertEquals(5, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void snapshot_AggregatesTrackerCallbacks() {
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+        IMetricsTracker tracker = metrics.create("test-pool", null);
+        tracker.recordConnectionAcquiredNanos(2_000);
+        tracker.recordConnectionAcquiredNanos(6_000);
+        tracker.recordConnectionUsageMillis(3);
+        tracker.recordConnectionTimeout();
+
+        ConnectionPoolStatsResponse stats = metrics.snapshot();
+
+        assertEquals(2, stats.getAcquisitions());
+        assertEquals(4.0, stats.getAverageAcquireMicros());
+        assertEquals(6.0, stats.getMaxAcquireMicros());
+        assertEquals(1, stats.getAcquisitionTimeouts());
+        assertEquals(3.0, stats.getAverageUsageMillis());
+    }
+}
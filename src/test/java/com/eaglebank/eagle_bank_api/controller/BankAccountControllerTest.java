@@ -8,11 +8,15 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -20,24 +24,38 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchItemResult;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberBatchResponse;
+import com.eaglebank.eagle_bank_api.dto.AccountNumberResolution;
+import com.eaglebank.eagle_bank_api.dto.AccountSummaryResponse;
 import com.eaglebank.eagle_bank_api.dto.BankAccountCreateRequest;
 import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
 import com.eaglebank.eagle_bank_api.dto.BankAccountUpdateRequest;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
+import com.eaglebank.eagle_bank_api.service.AccountNumberResolver;
 import com.eaglebank.eagle_bank_api.service.BankAccountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(BankAccountController.class)
+@Import(SliceTestMetrics.class)
 class BankAccountControllerTest {
 
+    private static final String ACCOUNTS_ETAG = "W/\"accounts-2-1700000000000000\"";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockBean
     private BankAccountService bankAccountService;
 
+    @MockBean
+    private AccountNumberResolver accountNumberResolver;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -102,18 +120,33 @@ class BankAccountControllerTest {
         );
         
         List<BankAccountResponse> accounts = Arrays.asList(accountResponse, account2);
+        when(bankAccountService.getUserBankAccountsETag(1L)).thenReturn(ACCOUNTS_ETAG);
         when(bankAccountService.getUserBankAccounts(eq(1L))).thenReturn(accounts);
 
         mockMvc.perform(get("/v1/accounts")
                 .header("X-User-Id", "1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", ACCOUNTS_ETAG))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].accountId").value(1))
                 .andExpect(jsonPath("$[1].accountId").value(2));
     }
 
+    @Test
+    void getUserBankAccounts_MatchingIfNoneMatch_ReturnsNotModifiedWithoutLoadingAccounts() throws Exception {
+        when(bankAccountService.getUserBankAccountsETag(1L)).thenReturn(ACCOUNTS_ETAG);
+
+        mockMvc.perform(get("/v1/accounts")
+                .header("X-User-Id", "1")
+                .header("If-None-Match", "\"other\", " + ACCOUNTS_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(bankAccountService, never()).getUserBankAccounts(any());
+    }
+
     @Test
     void getBankAccountById_ValidRequest_ReturnsAccount() throws Exception {
         when(bankAccountService.getBankAccountById(eq(1L), eq(1L))).thenReturn(accountResponse);
@@ -126,6 +159,76 @@ class BankAccountControllerTest {
                 .andExpect(jsonPath("$.accountName").value("Savings Account"));
     }
 
+    @Test
+    void getAccountSummary_ValidRequest_ReturnsTotals() throws Exception {
+        AccountSummaryResponse summary = new AccountSummaryResponse(
+            1L, new BigDecimal("1300.00"), new BigDecimal("500.00"),
+            new BigDecimal("200.00"), 2L, LocalDateTime.now()
+        );
+        when(bankAccountService.getAccountSummary(eq(1L), eq(1L))).thenReturn(summary);
+
+        mockMvc.perform(get("/v1/accounts/1/summary")
+                .header("X-User-Id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(1300.00))
+                .andExpect(jsonPath("$.totalDeposits").value(500.00))
+                .andExpect(jsonPath("$.totalWithdrawals").value(200.00))
+                .andExpect(jsonPath("$.transactionCount").value(2));
+    }
+
+    @Test
+    void resolveAccountNumber_KnownNumber_ReturnsAccountId() throws Exception {
+        when(accountNumberResolver.resolve("EB1705312345678", 1L))
+            .thenReturn(new AccountNumberResolution("EB1705312345678", 1L, 1L));
+
+        mockMvc.perform(get("/v1/accounts/by-number/EB1705312345678")
+                .header("X-User-Id", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("EB1705312345678"))
+                .andExpect(jsonPath("$.accountId").value(1));
+    }
+
+    @Test
+    void resolveAccountNumber_UnknownNumber_ReturnsNotFound() throws Exception {
+        when(accountNumberResolver.resolve("EB0000000000000", 1L))
+            .thenThrow(new ResourceNotFoundException("Bank account not found with number: EB0000000000000"));
+
+        mockMvc.perform(get("/v1/accounts/by-number/EB0000000000000")
+                .header("X-User-Id", "1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void resolveAccountNumbers_ReturnsResultPerNumber() throws Exception {
+        AccountNumberBatchRequest request = new AccountNumberBatchRequest();
+        request.setAccountNumbers(Arrays.asList("EB1705312345678", "EB0000000000000"));
+        when(accountNumberResolver.resolveAll(anyList(), eq(1L))).thenReturn(new AccountNumberBatchResponse(1, 1, List.of(
+            new AccountNumberBatchItemResult(0, 200, new AccountNumberResolution("EB1705312345678", 1L, 1L), null),
+            new AccountNumberBatchItemResult(1, 404, null, "Bank account not found with number: EB0000000000000")
+        )));
+
+        mockMvc.perform(post("/v1/accounts/by-number:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resolved").value(1))
+                .andExpect(jsonPath("$.results[0].account.accountId").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(404));
+    }
+
+    @Test
+    void resolveAccountNumbers_EmptyBatch_ReturnsBadRequest() throws Exception {
+        AccountNumberBatchRequest request = new AccountNumberBatchRequest();
+        request.setAccountNumbers(List.of());
+
+        mockMvc.perform(post("/v1/accounts/by-number:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateBankAccount_ValidRequest_ReturnsUpdatedAccount() throws Exception {
         BankAccountResponse updatedResponse = new BankAccountResponse(
@@ -0,0 +1,20 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The MVC slice leaves out the actuator's registry; this one takes the error counts of
+ * GlobalExceptionHandler. Brought into a slice test with {@code @Import(SliceTestMetrics.class)}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class SliceTestMetrics {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
@@ -0,0 +1,133 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.eaglebank.eagle_bank_api.dto.AccountTransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.CrossAccountTransactionBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionBatchRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.exception.ForbiddenException;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.service.PostingResult;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(TransactionBatchController.class)
+@Import(SliceTestMetrics.class)
+class TransactionBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransactionCreateRequest deposit(String amount) {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setAmount(new BigDecimal(amount));
+        request.setTransactionType("DEPOSIT");
+        return request;
+    }
+
+    private TransactionResponse transactionResponse(Long transactionId, Long accountId) {
+        return new TransactionResponse(
+            transactionId, new BigDecimal("100.00"), "DEPOSIT",
+            null, new BigDecimal("1100.00"), LocalDateTime.now(), accountId
+        );
+    }
+
+    @Test
+    void createAccountTransactions_ReturnsResultPerItem() throws Exception {
+        TransactionBatchRequest request = new TransactionBatchRequest();
+        request.setTransactions(Arrays.asList(deposit("100.00"), deposit("200.00")));
+
+        when(transactionService.postAccountBatch(eq(1L), eq(1L), anyList())).thenReturn(List.of(
+            PostingResult.succeeded(transactionResponse(10L, 1L)),
+            PostingResult.failed(new UnprocessableEntityException("Insufficient funds. Current balance: 0.00"))
+        ));
+
+        mockMvc.perform(post("/v1/accounts/1/transactions:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[0].transaction.transactionId").value(10))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(422));
+    }
+
+    @Test
+    void createTransactions_CrossAccount_ReportsForbiddenAccountPerItem() throws Exception {
+        AccountTransactionCreateRequest own = new AccountTransactionCreateRequest();
+        own.setAccountId(1L);
+        own.setAmount(new BigDecimal("100.00"));
+        own.setTransactionType("DEPOSIT");
+        AccountTransactionCreateRequest foreign = new AccountTransactionCreateRequest();
+        foreign.setAccountId(2L);
+        foreign.setAmount(new BigDecimal("100.00"));
+        foreign.setTransactionType("DEPOSIT");
+        CrossAccountTransactionBatchRequest request = new CrossAccountTransactionBatchRequest();
+        request.setTransactions(Arrays.asList(own, foreign));
+
+        when(transactionService.postCrossAccountBatch(eq(1L), anyList())).thenReturn(List.of(
+            PostingResult.succeeded(transactionResponse(10L, 1L)),
+            PostingResult.failed(new ForbiddenException("You can only access your own bank accounts"))
+        ));
+
+        mockMvc.perform(post("/v1/transactions:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].transaction.accountId").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(403));
+    }
+
+    @Test
+    void createAccountTransactions_InvalidItem_ReturnsBadRequest() throws Exception {
+        TransactionBatchRequest request = new TransactionBatchRequest();
+        request.setTransactions(Arrays.asList(deposit("100.00"), deposit("-5.00")));
+
+        mockMvc.perform(post("/v1/accounts/1/transactions:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createAccountTransactions_EmptyBatch_ReturnsBadRequest() throws Exception {
+        TransactionBatchRequest request = new TransactionBatchRequest();
+        request.setTransactions(List.of());
+
+        mockMvc.perform(post("/v1/accounts/1/transactions:batch")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -5,30 +5,47 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.eaglebank.eagle_bank_api.dto.BalanceResponse;
 import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionPage;
 import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
 import com.eaglebank.eagle_bank_api.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(TransactionController.class)
+@Import(SliceTestMetrics.class)
 class TransactionControllerTest {
 
+    private static final String HISTORY_ETAG = "W/\"transactions-1-42-1700000000000000\"";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -82,6 +99,21 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.accountId").value(1));
     }
 
+    @Test
+    void createTransaction_WithIdempotencyKey_PassesKeyToService() throws Exception {
+        TransactionResponse response = createTransactionResponse();
+        when(transactionService.createTransaction(eq(1L), eq(1L), any(TransactionCreateRequest.class), eq("retry-123")))
+            .thenReturn(response);
+
+        mockMvc.perform(post("/v1/accounts/1/transactions")
+                .header("X-User-Id", "1")
+                .header("Idempotency-Key", "retry-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createDepositRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.transactionId").value(1));
+    }
+
     @Test
     void createTransaction_Withdrawal_ReturnsCreated() throws Exception {
         TransactionResponse withdrawalResponse = new TransactionResponse(
@@ -138,22 +170,57 @@ class TransactionControllerTest {
         );
         
         List<TransactionResponse> transactions = Arrays.asList(transaction2, createTransactionResponse());
-        when(transactionService.getAccountTransactions(eq(1L), eq(1L))).thenReturn(transactions);
+        when(transactionService.getAccountTransactionsETag(1L, 1L)).thenReturn(HISTORY_ETAG);
+        when(transactionService.getAccountTransactions(eq(1L), eq(1L), eq(50), isNull()))
+            .thenReturn(new TransactionPage(transactions, null));
 
         mockMvc.perform(get("/v1/accounts/1/transactions")
                 .header("X-User-Id", "1"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("ETag", HISTORY_ETAG))
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].transactionId").value(2))
                 .andExpect(jsonPath("$[1].transactionId").value(1));
     }
 
+    @Test
+    void getAccountTransactions_WithCursor_ReturnsNextCursorHeader() throws Exception {
+        List<TransactionResponse> transactions = Arrays.asList(createTransactionResponse());
+        when(transactionService.getAccountTransactionsETag(1L, 1L)).thenReturn(HISTORY_ETAG);
+        when(transactionService.getAccountTransactions(eq(1L), eq(1L), eq(1), eq("cursor-1")))
+            .thenReturn(new TransactionPage(transactions, "cursor-2"));
+
+        mockMvc.perform(get("/v1/accounts/1/transactions")
+                .header("X-User-Id", "1")
+                .param("limit", "1")
+                .param("after", "cursor-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "cursor-2"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void getAccountTransactions_MatchingIfNoneMatch_ReturnsNotModifiedWithoutReadingPage() throws Exception {
+        when(transactionService.getAccountTransactionsETag(1L, 1L)).thenReturn(HISTORY_ETAG);
+
+        mockMvc.perform(get("/v1/accounts/1/transactions")
+                .header("X-User-Id", "1")
+                .header("If-None-Match", HISTORY_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", HISTORY_ETAG))
+                .andExpect(content().string(""));
+
+        verify(transactionService, never()).getAccountTransactions(any(), any(), anyInt(), any());
+    }
+
     @Test
     void getUserTransactions_ValidRequest_ReturnsTransactionList() throws Exception {
         List<TransactionResponse> transactions = Arrays.asList(createTransactionResponse());
-        when(transactionService.getUserTransactions(eq(1L))).thenReturn(transactions);
+        when(transactionService.getUserTransactions(eq(1L), eq(50), isNull()))
+            .thenReturn(new TransactionPage(transactions, null));
 
         mockMvc.perform(get("/v1/accounts/transactions")
                 .header("X-User-Id", "1"))
@@ -166,6 +233,61 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$[0].amount").value(500.00));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportUserTransactions_StreamsOneJsonObjectPerLine() throws Exception {
+        TransactionResponse withdrawal = new TransactionResponse(
+            2L, new BigDecimal("100.00"), "WITHDRAWAL",
+            "ATM withdrawal", new BigDecimal("1400.00"),
+            LocalDateTime.now(), 1L
+        );
+        doAnswer(invocation -> {
+            Consumer<TransactionResponse> sink = invocation.getArgument(3);
+            sink.accept(withdrawal);
+            sink.accept(createTransactionResponse());
+            return null;
+        }).when(transactionService).exportUserTransactions(eq(1L), isNull(), isNull(), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/v1/accounts/transactions/export")
+                .header("X-User-Id", "1")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2L, objectMapper.readTree(lines[0]).get("transactionId").asLong());
+        assertEquals(1L, objectMapper.readTree(lines[1]).get("transactionId").asLong());
+    }
+
+    @Test
+    void getBalance_AsOf_ReturnsBalanceAtThatTime() throws Exception {
+        LocalDateTime asOf = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+        when(transactionService.getBalanceAsOf(1L, 1L, asOf))
+            .thenReturn(new BalanceResponse(1L, new BigDecimal("1250.00"), asOf));
+
+        mockMvc.perform(get("/v1/accounts/1/balance")
+                .header("X-User-Id", "1")
+                .param("asOf", "2025-01-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountId").value(1))
+                .andExpect(jsonPath("$.balance").value(1250.00));
+    }
+
+    @Test
+    void exportUserTransactions_InvalidRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/accounts/transactions/export")
+                .header("X-User-Id", "1")
+                .param("from", "2025-02-01T00:00:00")
+                .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createTransaction_MissingAuthHeader_ReturnsUnauthorized() throws Exception {
         mockMvc.perform(post("/v1/accounts/1/transactions")
@@ -0,0 +1,92 @@
+package com.eaglebank.eagle_bank_api.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.dto.TransferResponse;
+import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(TransferController.class)
+@Import(SliceTestMetrics.class)
+class TransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TransferRequest transferRequest(String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setFromAccountId(1L);
+        request.setToAccountId(2L);
+        request.setAmount(new BigDecimal(amount));
+        request.setDescription("Savings top-up");
+        return request;
+    }
+
+    @Test
+    void createTransfer_ReturnsCreatedWithBothLegs() throws Exception {
+        String transferId = "3f1c2a9e-8d4b-4c1e-9a57-0b6f1e2d3c4b";
+        LocalDateTime now = LocalDateTime.now();
+        TransferResponse response = new TransferResponse(transferId,
+            new TransactionResponse(10L, new BigDecimal("100.00"), "TRANSFER_OUT", "Savings top-up",
+                new BigDecimal("900.00"), now, 1L, 2L, transferId),
+            new TransactionResponse(11L, new BigDecimal("100.00"), "TRANSFER_IN", "Savings top-up",
+                new BigDecimal("600.00"), now, 2L, 1L, transferId));
+        when(transactionService.transfer(eq(1L), any(TransferRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/v1/transfers")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(transferRequest("100.00"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.transferId").value(transferId))
+                .andExpect(jsonPath("$.debit.transactionType").value("TRANSFER_OUT"))
+                .andExpect(jsonPath("$.debit.counterpartyAccountId").value(2))
+                .andExpect(jsonPath("$.credit.accountId").value(2))
+                .andExpect(jsonPath("$.credit.balanceAfter").value(600.00));
+    }
+
+    @Test
+    void createTransfer_InsufficientFunds_ReturnsUnprocessableEntity() throws Exception {
+        when(transactionService.transfer(eq(1L), any(TransferRequest.class)))
+            .thenThrow(new UnprocessableEntityException("Insufficient funds. Current balance: 50.00"));
+
+        mockMvc.perform(post("/v1/transfers")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(transferRequest("100.00"))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void createTransfer_NonPositiveAmount_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/v1/transfers")
+                .header("X-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(transferRequest("0.00"))))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,126 @@
+package com.eaglebank.eagle_bank_api.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
+import com.eaglebank.eagle_bank_api.exception.ForbiddenException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BalanceEventHubTest {
+
+    private final CountDownLatch dispatchersBlocked = new CountDownLatch(1);
+    private ExecutorService dispatchers;
+    private BalanceEventHub hub;
+
+    // The only dispatcher thread is parked, so queued events stay in the subscriber buffers
+    @BeforeEach
+    void setUp() {
+        dispatchers = Executors.newSingleThreadExecutor();
+        dispatchers.execute(() -> {
+            try {
+                dispatchersBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        hub = new BalanceEventHub(2, 60_000, dispatchers, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchersBlocked.countDown();
+        dispatchers.shutdownNow();
+    }
+
+    @Test
+    void subscribe_RegistersPerAccount() {
+        assertNotNull(hub.subscribe(1L, () -> event(1L, 0)));
+        hub.subscribe(1L, () -> event(1L, 0));
+        hub.subscribe(2L, () -> event(2L, 0));
+
+        assertEquals(3, hub.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_FailingSnapshot_RemovesSubscriber() {
+        assertThrows(ForbiddenException.class, () -> hub.subscribe(1L, () -> {
+            throw new ForbiddenException("You can only access your own bank accounts");
+        }));
+
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    @Test
+    void onBalanceChange_FullBuffer_DropsOnlyThatSubscriber() {
+        hub.subscribe(1L, () -> event(1L, 5));
+        hub.subscribe(2L, () -> event(2L, 5));
+
+        // Snapshot plus one change fill the buffer of two; the next change cannot be queued
+        hub.onBalanceChange(event(1L, 6));
+        assertEquals(0, hub.getDroppedCount());
+        hub.onBalanceChange(event(1L, 7));
+
+        assertEquals(1, hub.getDroppedCount());
+        assertEquals(1, hub.getSubscriberCount());
+
+        // Later changes to the account have nobody left to go to
+        hub.onBalanceChange(event(1L, 8));
+        assertEquals(1, hub.getDroppedCount());
+    }
+
+    @Test
+    void onBalanceChange_SkipsChangesCoveredBySnapshotOrOlder() {
+        hub.subscribe(1L, () -> event(1L, 5));
+
+        // Postings up to the snapshot's transaction, or reported out of order, take no buffer space
+        hub.onBalanceChange(event(1L, 4));
+        hub.onBalanceChange(event(1L, 5));
+        hub.onBalanceChange(event(1L, 7));
+        hub.onBalanceChange(event(1L, 6));
+
+        assertEquals(0, hub.getDroppedCount());
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_NewerChangeQueuedBeforeStart_SnapshotIsNotQueued() {
+        // A change committed after the snapshot was read but published before the stream started
+        // already carries a newer balance, so the stale snapshot is not queued in front of it
+        hub.subscribe(1L, () -> {
+            BalanceEvent snapshot = event(1L, 5);
+            hub.onBalanceChange(event(1L, 6));
+            return snapshot;
+        });
+        hub.onBalanceChange(event(1L, 7));
+
+        assertEquals(0, hub.getDroppedCount());
+    }
+
+    @Test
+    void sendHeartbeats_StalledSubscriberIsDropped() {
+        hub.subscribe(1L, () -> event(1L, 0));
+
+        hub.sendHeartbeats();
+        hub.sendHeartbeats();
+
+        assertEquals(1, hub.getDroppedCount());
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    private BalanceEvent event(Long accountId, long transactionId) {
+        return new BalanceEvent(accountId, new BigDecimal("100.00").add(BigDecimal.valueOf(transactionId)),
+            transactionId, LocalDateTime.now());
+    }
+}
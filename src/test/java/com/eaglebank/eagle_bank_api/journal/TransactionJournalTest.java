@@ -0,0 +1,184 @@
+package com.eaglebank.eagle_bank_api.journal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.eaglebank.eagle_bank_api.enums.TransactionType;
+
+class TransactionJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private final List<JournalRecord> durable = new CopyOnWriteArrayList<>();
+
+    @Test
+    void append_BecomesDurableAndIsHandedToListenerInOrder() throws Exception {
+        try (TransactionJournal journal = open(0)) {
+            JournalRecord first = append(journal, 10L, TransactionType.DEPOSIT, "100.00", "Salary");
+            JournalRecord second = append(journal, 11L, TransactionType.WITHDRAWAL, "25.50", null);
+            assertTrue(journal.awaitDurable(second.getSequence(), 5, TimeUnit.SECONDS));
+
+            assertEquals(1L, first.getSequence());
+            assertEquals(2L, second.getSequence());
+            assertEquals(List.of(1L, 2L), durable.stream().map(JournalRecord::getSequence).toList());
+        }
+    }
+
+    @Test
+    void reopen_ReplaysRecordsAfterCheckpointWithAllFields() throws Exception {
+        LocalDateTime date = LocalDateTime.of(2025, 7, 21, 21, 30, 42, 449440500);
+        try (TransactionJournal journal = open(0)) {
+            journal.append(10L, 7L, TransactionType.DEPOSIT, new BigDecimal("100.00"), new BigDecimal("1100.00"), date, "Salary");
+            JournalRecord last = journal.append(11L, 7L, TransactionType.WITHDRAWAL, new BigDecimal("0.5"),
+                new BigDecimal("1099.50"), date, null);
+            assertTrue(journal.awaitDurable(last.getSequence(), 5, TimeUnit.SECONDS));
+        }
+
+        try (TransactionJournal journal = open(1)) {
+            List<JournalRecord> replayed = journal.readAfter(1);
+
+            assertEquals(1, replayed.size());
+            JournalRecord record = replayed.get(0);
+            assertEquals(2L, record.getSequence());
+            assertEquals(11L, record.getTransactionId());
+            assertEquals(7L, record.getAccountId());
+            assertEquals(TransactionType.WITHDRAWAL, record.getTransactionType());
+            assertEquals(new BigDecimal("0.5"), record.getAmount());
+            assertEquals(new BigDecimal("1099.50"), record.getBalanceAfter());
+            assertEquals(date, record.getTransactionDate());
+            assertNull(record.getDescription());
+
+            // New appends continue the sequence in a fresh segment
+            assertEquals(3L, append(journal, 12L, TransactionType.DEPOSIT, "1.00", null).getSequence());
+        }
+    }
+
+    @Test
+    void reopen_StopsAtTornRecord() throws Exception {
+        try (TransactionJournal journal = open(0)) {
+            append(journal, 10L, TransactionType.DEPOSIT, "1.00", "ok");
+            JournalRecord torn = append(journal, 11L, TransactionType.DEPOSIT, "2.00", "torn");
+            assertTrue(journal.awaitDurable(torn.getSequence(), 5, TimeUnit.SECONDS));
+        }
+        // Corrupt the last byte of the second record's payload
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, 0);
+            int secondFrame = 8 + header.flip().getInt();
+            header.clear();
+            channel.read(header, secondFrame);
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), secondFrame + 8 + header.flip().getInt() - 1);
+        }
+
+        try (TransactionJournal journal = open(0)) {
+            List<JournalRecord> replayed = journal.readAfter(0);
+
+            assertEquals(1, replayed.size());
+            assertEquals("ok", replayed.get(0).getDescription());
+        }
+    }
+
+    @Test
+    void releaseThrough_DeletesFullyProjectedSegments() throws Exception {
+        try (TransactionJournal journal = open(0)) {
+            String description = "x".repeat(1000);
+            JournalRecord last = null;
+            for (int i = 0; i < 10; i++) {
+                last = append(journal, i, TransactionType.DEPOSIT, "1.00", description);
+            }
+            assertTrue(journal.awaitDurable(last.getSequence(), 5, TimeUnit.SECONDS));
+            int before = segments().size();
+            assertTrue(before > 2, "expected the journal to roll, found " + before + " segment(s)");
+
+            journal.releaseThrough(last.getSequence());
+
+            assertEquals(1, segments().size());
+        }
+    }
+
+    @Test
+    void failingFlusher_FailsWaitersAndLaterAppends() throws Exception {
+        CountDownLatch listening = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE, 0, 0, batch -> {
+                listening.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("listener failed");
+            })) {
+            JournalRecord first = append(journal, 10L, TransactionType.DEPOSIT, "1.00", null);
+            assertTrue(listening.await(5, TimeUnit.SECONDS));
+            JournalRecord second = append(journal, 11L, TransactionType.DEPOSIT, "2.00", null);
+            release.countDown();
+
+            // The first record reached disk before the listener failed; the second never will
+            assertTrue(journal.awaitDurable(first.getSequence(), 5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> journal.awaitDurable(second.getSequence(), 5, TimeUnit.SECONDS));
+            assertThrows(IllegalStateException.class, () -> append(journal, 12L, TransactionType.DEPOSIT, "3.00", null));
+        }
+    }
+
+    @Test
+    void awaitDurable_TimesOutWhileFlusherIsBusy() throws Exception {
+        CountDownLatch listening = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE, 0, 0, batch -> {
+                listening.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })) {
+            append(journal, 10L, TransactionType.DEPOSIT, "1.00", null);
+            // Appended while the flusher is stuck in the listener
+            assertTrue(listening.await(5, TimeUnit.SECONDS));
+            JournalRecord second = append(journal, 11L, TransactionType.DEPOSIT, "2.00", null);
+
+            assertFalse(journal.awaitDurable(second.getSequence(), 50, TimeUnit.MILLISECONDS));
+            release.countDown();
+            assertTrue(journal.awaitDurable(second.getSequence(), 5, TimeUnit.SECONDS));
+        }
+    }
+
+    private TransactionJournal open(long appliedSequence) throws IOException {
+        return new TransactionJournal(directory, SEGMENT_SIZE, 0, appliedSequence, durable::addAll);
+    }
+
+    private JournalRecord append(TransactionJournal journal, long transactionId, TransactionType type,
+                                 String amount, String description) {
+        return journal.append(transactionId, 1L, type, new BigDecimal(amount), BigDecimal.TEN, LocalDateTime.now(), description);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.eaglebank.eagle_bank_api.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eaglebank.eagle_bank_api.config.ConnectionPoolMetrics;
+import com.eaglebank.eagle_bank_api.dto.ConnectionPoolStatsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives a weighted mix of user creation, account creation, deposits, withdrawals and history reads
+ * over HTTP against the application on a random port, then prints throughput and p50/p99/p999
+ * latency per endpoint. Everything runs in-process against H2, so runs are comparable between
+ * server configurations: pass any Spring property as a system property (thread pool size, virtual
+ * threads, Hikari pool size) and the effective values are printed with the report.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:loaddb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.eaglebank=WARN",
+    "logging.level.org.springframework.web=WARN"
+})
+class HttpLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final int SEED_ACCOUNTS = Integer.getInteger("load.seed-accounts", 100);
+    private static final int MAX_ACCOUNTS = 2_000;
+
+    private static final AtomicLong EMAIL_SEQUENCE = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final List<AccountRef> accounts = new CopyOnWriteArrayList<>();
+
+    private String baseUrl;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        baseUrl = "http://localhost:" + port + "/api";
+        for (int i = 0; i < SEED_ACCOUNTS; i++) {
+            Long userId = createUser(null);
+            accounts.add(new AccountRef(userId, createAccount(userId, null)));
+        }
+
+        run(WARMUP_SECONDS, new LatencyReport());
+
+        LatencyReport report = new LatencyReport();
+        double elapsedSeconds = run(DURATION_SECONDS, report);
+        report.print(System.out, describeConfiguration(), elapsedSeconds);
+        ConnectionPoolStatsResponse pool = connectionPoolMetrics.snapshot();
+        System.out.printf("pool: acquisitions=%d avg-wait=%.1fus max-wait=%.1fus timeouts=%d avg-hold=%.2fms%n",
+            pool.getAcquisitions(), pool.getAverageAcquireMicros(), pool.getMaxAcquireMicros(),
+            pool.getAcquisitionTimeouts(), pool.getAverageUsageMillis());
+
+        assertEquals(0, report.serverErrors(), "server errors during load test");
+    }
+
+    private double run(int seconds, LatencyReport report) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            Operation.pick().execute(this, report);
+                        } catch (IOException e) {
+                            // Already recorded against the endpoint as a failed request
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private String describeConfiguration() {
+        // The pool size is read from the pool itself, since the perf profile derives it from the core count
+        return String.format("java=%d threads=%d duration=%ds profiles=%s tomcat.threads.max=%s virtual-threads=%s hikari.maximum-pool-size=%d",
+            Runtime.version().feature(), THREADS, DURATION_SECONDS,
+            String.join(",", environment.getActiveProfiles()),
+            environment.getProperty("server.tomcat.threads.max", "200"),
+            environment.getProperty("spring.threads.virtual.enabled", "false"),
+            connectionPoolMetrics.snapshot().getMaximumPoolSize());
+    }
+
+    // Weighted request mix; weights add up to 100
+    private enum Operation {
+        CREATE_USER(5) {
+            @Override
+            void execute(HttpLoadTest test, LatencyReport report) throws Exception {
+                test.createUser(report);
+            }
+        },
+        CREATE_ACCOUNT(5) {
+            @Override
+            void execute(HttpLoadTest test, LatencyReport report) throws Exception {
+                AccountRef account = test.randomAccount();
+                Long accountId = test.createAccount(account.userId, report);
+                if (accountId != null && test.accounts.size() < MAX_ACCOUNTS) {
+                    test.accounts.add(new AccountRef(account.userId, accountId));
+                }
+            }
+        },
+        DEPOSIT(35) {
+            @Override
+            void execute(HttpLoadTest test, LatencyReport report) throws Exception {
+                test.postTransaction("DEPOSIT", "25.00", report);
+            }
+        },
+        WITHDRAWAL(25) {
+            @Override
+            void execute(HttpLoadTest test, LatencyReport report) throws Exception {
+                test.postTransaction("WITHDRAWAL", "20.00", report);
+            }
+        },
+        HISTORY(30) {
+            @Override
+            void execute(HttpLoadTest test, LatencyReport report) throws Exception {
+                AccountRef account = test.randomAccount();
+                test.send("GET /accounts/{id}/transactions", HttpRequest.newBuilder()
+                    .uri(test.uri("/v1/accounts/" + account.accountId + "/transactions?limit=50"))
+                    .header("X-User-Id", account.userId.toString())
+                    .GET(), report);
+            }
+        };
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        abstract void execute(HttpLoadTest test, LatencyReport report) throws Exception;
+
+        static Operation pick() {
+            int roll = ThreadLocalRandom.current().nextInt(100);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return HISTORY;
+        }
+    }
+
+    private Long createUser(LatencyReport report) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+            "firstName", "Load",
+            "lastName", "Tester",
+            "email", "load" + EMAIL_SEQUENCE.incrementAndGet() + "@example.com",
+            "phoneNumber", "1234567890",
+            "address", "1 Throughput Street"));
+        HttpResponse<String> response = send("POST /users", HttpRequest.newBuilder()
+            .uri(uri("/v1/users"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)), report);
+        return response.statusCode() == 201 ? objectMapper.readTree(response.body()).get("userId").asLong() : null;
+    }
+
+    private Long createAccount(Long userId, LatencyReport report) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+            "accountName", "Load Account",
+            "accountType", "CHECKING",
+            "initialBalance", 100));
+        HttpResponse<String> response = send("POST /accounts", HttpRequest.newBuilder()
+            .uri(uri("/v1/accounts"))
+            .header("Content-Type", "application/json")
+            .header("X-User-Id", userId.toString())
+            .POST(HttpRequest.BodyPublishers.ofString(body)), report);
+        return response.statusCode() == 201 ? objectMapper.readTree(response.body()).get("accountId").asLong() : null;
+    }
+
+    private void postTransaction(String type, String amount, LatencyReport report) throws Exception {
+        AccountRef account = randomAccount();
+        String body = objectMapper.writeValueAsString(Map.of(
+            "transactionType", type,
+            "amount", amount));
+        send("POST /accounts/{id}/transactions " + type.toLowerCase(), HttpRequest.newBuilder()
+            .uri(uri("/v1/accounts/" + account.accountId + "/transactions"))
+            .header("Content-Type", "application/json")
+            .header("X-User-Id", account.userId.toString())
+            .POST(HttpRequest.BodyPublishers.ofString(body)), report);
+    }
+
+    // Seeding passes a null report: requests are sent but not measured
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request, LatencyReport report)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            if (report != null) {
+                report.record(endpoint, System.nanoTime() - start, -1);
+            }
+            throw e;
+        }
+        if (report != null) {
+            report.record(endpoint, System.nanoTime() - start, response.statusCode());
+        }
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private AccountRef randomAccount() {
+        return accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+    }
+
+    private static final class AccountRef {
+        private final Long userId;
+        private final Long accountId;
+
+        private AccountRef(Long userId, Long accountId) {
+            this.userId = userId;
+            this.accountId = accountId;
+        }
+    }
+}
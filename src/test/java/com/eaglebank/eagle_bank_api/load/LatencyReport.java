@@ -0,0 +1,74 @@
+package com.eaglebank.eagle_bank_api.load;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution) and status counters, safe to record
+ * into from many worker threads at once.
+ */
+class LatencyReport {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentSkipListMap<>();
+
+    void record(String endpoint, long latencyNanos, int status) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (status >= 500 || status < 0) {
+            stats.serverErrors.increment();
+        } else if (status >= 400) {
+            stats.clientErrors.increment();
+        }
+    }
+
+    long serverErrors() {
+        long total = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            total += stats.serverErrors.sum();
+        }
+        return total;
+    }
+
+    void print(PrintStream out, String title, double elapsedSeconds) {
+        Histogram all = new Histogram(3);
+        out.println();
+        out.println(title);
+        out.printf("%-28s %9s %10s %9s %9s %9s %9s %7s %7s%n",
+            "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "4xx", "5xx");
+        for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram latencies = stats.latencies.copy();
+            all.add(latencies);
+            printRow(out, entry.getKey(), latencies, elapsedSeconds,
+                stats.clientErrors.sum(), stats.serverErrors.sum());
+        }
+        long clientErrors = endpoints.values().stream().mapToLong(stats -> stats.clientErrors.sum()).sum();
+        printRow(out, "TOTAL", all, elapsedSeconds, clientErrors, serverErrors());
+    }
+
+    private void printRow(PrintStream out, String name, Histogram latencies, double elapsedSeconds,
+                          long clientErrors, long serverErrors) {
+        out.printf("%-28s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+            name,
+            latencies.getTotalCount(),
+            latencies.getTotalCount() / elapsedSeconds,
+            latencies.getValueAtPercentile(50) / 1000.0,
+            latencies.getValueAtPercentile(99) / 1000.0,
+            latencies.getValueAtPercentile(99.9) / 1000.0,
+            latencies.getMaxValue() / 1000.0,
+            clientErrors,
+            serverErrors);
+    }
+
+    private static final class EndpointStats {
+        // Auto-resizing, so outliers are recorded rather than rejected
+        private final ConcurrentHistogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+    }
+}
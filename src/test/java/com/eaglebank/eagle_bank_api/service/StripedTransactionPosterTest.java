@@ -0,0 +1,134 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.exception.TooManyRequestsException;
+
+@ExtendWith(MockitoExtension.class)
+class StripedTransactionPosterTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private BankAccountService bankAccountService;
+
+    private StripedTransactionPoster poster;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        // One stripe with room for two waiting postings
+        poster = new StripedTransactionPoster(transactionService, bankAccountService, 1, 2, 64, 5000);
+        callers = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        poster.destroy();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void post_QueuedPostingsForSameAccount_AreCoalescedAndFullQueueIsRejected() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = new ArrayList<>();
+
+        when(transactionService.postBatch(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<TransactionCreateRequest> requests = invocation.getArgument(1);
+            batchSizes.add(requests.size());
+            if (batchSizes.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            List<PostingResult> results = new ArrayList<>();
+            for (TransactionCreateRequest request : requests) {
+                results.add(PostingResult.succeeded(new TransactionResponse(
+                    1L, request.getAmount(), "DEPOSIT", null, BigDecimal.TEN, LocalDateTime.now(), 1L)));
+            }
+            return results;
+        });
+
+        // The first posting is picked up immediately and blocks the single writer
+        CompletableFuture<TransactionResponse> first = CompletableFuture.supplyAsync(() -> poster.post(1L, 1L, deposit()), callers);
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+
+        // The next two fill the stripe queue while the writer is busy
+        CompletableFuture<TransactionResponse> second = CompletableFuture.supplyAsync(() -> poster.post(1L, 1L, deposit()), callers);
+        CompletableFuture<TransactionResponse> third = CompletableFuture.supplyAsync(() -> poster.post(1L, 1L, deposit()), callers);
+        waitForQueueDepth(2);
+
+        // A full stripe applies back-pressure instead of queueing without bound
+        assertThrows(TooManyRequestsException.class, () -> poster.post(1L, 1L, deposit()));
+        assertEquals(1, poster.getRejectedCount(0));
+
+        releaseFirstBatch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+
+        // The two queued postings reached the database as a single batch
+        verify(transactionService, times(2)).postBatch(eq(1L), anyList());
+        assertEquals(List.of(1, 2), batchSizes);
+        verify(bankAccountService, times(4)).validateOwnership(1L, 1L);
+    }
+
+    @Test
+    void bindTo_RegistersMetersPerStripe() throws Exception {
+        StripedTransactionPoster fourStripes = new StripedTransactionPoster(transactionService, bankAccountService, 4, 2, 64, 5000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try {
+            fourStripes.bindTo(registry);
+
+            assertEquals(4, registry.find("eaglebank.transactions.stripe.depth").gauges().size());
+            assertEquals(4, registry.find("eaglebank.transactions.stripe.rejected").functionCounters().size());
+            assertEquals(0.0, registry.get("eaglebank.transactions.stripe.submitted").tag("stripe", "3").functionCounter().count());
+            assertEquals(0.0, registry.get("eaglebank.transactions.stripe.batches").tag("stripe", "0").functionCounter().count());
+        } finally {
+            fourStripes.destroy();
+        }
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (poster.getQueueDepth(0) < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, poster.getQueueDepth(0));
+    }
+
+    private TransactionCreateRequest deposit() {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setAmount(new BigDecimal("10.00"));
+        request.setTransactionType("DEPOSIT");
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package com.eaglebank.eagle_bank_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TimeBasedAccountNumberGeneratorTest {
+
+    private static final long NOW = TimeBasedAccountNumberGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    // Correctness only; throughput under contention is measured by AccountNumberGeneratorBenchmark
+    @Test
+    void next_ConcurrentCallers_AllNumbersUniqueAndPerThreadIncreasing() throws Exception {
+        int threads = 8;
+        int perThread = 250_000;
+        TimeBasedAccountNumberGenerator generator = new TimeBasedAccountNumberGenerator(3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] values = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    String number = generator.next();
+                    assertTrue(TimeBasedAccountNumberGenerator.isValid(number), number);
+                    values[i] = Long.parseLong(number, 2, 21, 10);
+                }
+                return values;
+            }));
+        }
+
+        start.countDown();
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] values = future.get(1, TimeUnit.MINUTES);
+            for (int i = 1; i < values.length; i++) {
+                assertTrue(values[i] > values[i - 1], "numbers went backwards within a thread");
+            }
+            System.arraycopy(values, 0, all, offset, values.length);
+            offset += values.length;
+        }
+        executor.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i] != all[i - 1], "duplicate account number " + all[i]);
+        }
+    }
+
+    @Test
+    void next_FrozenClock_BorrowsFromNextMillisecondInsteadOfRepeating() {
+        TimeBasedAccountNumberGenerator generator = new TimeBasedAccountNumberGenerator(0, () -> NOW);
+        Set<String> numbers = new HashSet<>();
+        String previous = "";
+        // More than one millisecond's worth of sequence numbers
+        for (int i = 0; i < 10_000; i++) {
+            String number = generator.next();
+            assertTrue(number.compareTo(previous) > 0, number + " after " + previous);
+            assertTrue(numbers.add(number));
+            previous = number;
+        }
+    }
+
+    @Test
+    void next_ClockStepsBack_StaysIncreasing() {
+        long[] clock = {NOW};
+        TimeBasedAccountNumberGenerator generator = new TimeBasedAccountNumberGenerator(0, () -> clock[0]);
+        String before = generator.next();
+        clock[0] = NOW - 60_000;
+        assertTrue(generator.next().compareTo(before) > 0);
+    }
+
+    @Test
+    void next_DifferentNodesSameInstant_DoNotCollide() {
+        TimeBasedAccountNumberGenerator node1 = new TimeBasedAccountNumberGenerator(1, () -> NOW);
+        TimeBasedAccountNumberGenerator node2 = new TimeBasedAccountNumberGenerator(2, () -> NOW);
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(numbers.add(node1.next()));
+            assertTrue(numbers.add(node2.next()));
+        }
+    }
+
+    @Test
+    void isValid_DetectsSingleDigitTypo() {
+        String number = new TimeBasedAccountNumberGenerator(5, () -> NOW).next();
+        assertEquals(TimeBasedAccountNumberGenerator.LENGTH, number.length());
+        assertTrue(number.startsWith("EB"));
+        assertTrue(TimeBasedAccountNumberGenerator.isValid(number));
+
+        for (int i = 2; i < number.length(); i++) {
+            char[] typo = number.toCharArray();
+            typo[i] = (char) ('0' + (typo[i] - '0' + 1) % 10);
+            assertFalse(TimeBasedAccountNumberGenerator.isValid(new String(typo)), new String(typo));
+        }
+        assertFalse(TimeBasedAccountNumberGenerator.isValid("EB1705312345678"));
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeBasedAccountNumberGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new TimeBasedAccountNumberGenerator(TimeBasedAccountNumberGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -5,29 +5,50 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.eaglebank.eagle_bank_api.archive.TransactionArchive;
+import com.eaglebank.eagle_bank_api.dto.BalanceEvent;
+import com.eaglebank.eagle_bank_api.dto.BalanceResponse;
+import com.eaglebank.eagle_bank_api.dto.BankAccountResponse;
 import com.eaglebank.eagle_bank_api.dto.TransactionCreateRequest;
+import com.eaglebank.eagle_bank_api.dto.TransactionPage;
 import com.eaglebank.eagle_bank_api.dto.TransactionResponse;
+import com.eaglebank.eagle_bank_api.dto.TransferRequest;
+import com.eaglebank.eagle_bank_api.dto.TransferResponse;
 import com.eaglebank.eagle_bank_api.entity.BankAccount;
 import com.eaglebank.eagle_bank_api.entity.Transaction;
 import com.eaglebank.eagle_bank_api.entity.User;
+import com.eaglebank.eagle_bank_api.exception.ResourceNotFoundException;
 import com.eaglebank.eagle_bank_api.exception.UnprocessableEntityException;
+import com.eaglebank.eagle_bank_api.journal.AccountLedgers;
 import com.eaglebank.eagle_bank_api.repository.BankAccountRepository;
 import com.eaglebank.eagle_bank_api.repository.TransactionRepository;
 
@@ -43,6 +64,22 @@ class TransactionServiceTest {
     @Mock
     private BankAccountService bankAccountService;
 
+    @Mock
+    private AccountStatsService accountStatsService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // Journal disabled: nothing pending, locking is a no-op
+    @Spy
+    private AccountLedgers accountLedgers = new AccountLedgers(false);
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -90,9 +127,10 @@ class TransactionServiceTest {
     @Test
     void createTransaction_Deposit_Success() {
         // Given
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
+        when(bankAccountRepository.credit(eq(1L), eq(new BigDecimal("500.00")), any(LocalDateTime.class))).thenReturn(1);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("1500.00")));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(bankAccount);
         when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
-        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(bankAccount);
 
         // When
         TransactionResponse response = transactionService.createTransaction(1L, 1L, depositRequest);
@@ -105,18 +143,29 @@ class TransactionServiceTest {
         assertEquals(new BigDecimal("1500.00"), response.getBalanceAfter());
         assertEquals(1L, response.getAccountId());
 
-        // Verify account balance was updated
-        assertEquals(new BigDecimal("1500.00"), bankAccount.getBalance());
+        // Verify the balance was updated atomically rather than by saving the entity
+        ArgumentCaptor<Transaction> saved = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(saved.capture());
+        assertEquals(new BigDecimal("1500.00"), saved.getValue().getBalanceAfter());
 
-        verify(bankAccountService).findByIdAndValidateOwnership(1L, 1L);
-        verify(bankAccountRepository).save(bankAccount);
-        verify(transactionRepository).save(any(Transaction.class));
+        verify(bankAccountService).validateOwnership(1L, 1L);
+        verify(bankAccountRepository).credit(eq(1L), eq(new BigDecimal("500.00")), any(LocalDateTime.class));
+        verify(bankAccountRepository, never()).save(any());
+        verify(accountStatsService).recordPostings(List.of(transaction));
+
+        ArgumentCaptor<BalanceEvent> event = ArgumentCaptor.forClass(BalanceEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getAccountId());
+        assertEquals(1L, event.getValue().getTransactionId());
+        assertEquals(new BigDecimal("1500.00"), event.getValue().getBalance());
     }
 
     @Test
     void createTransaction_Withdrawal_Success() {
         // Given
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
+        when(bankAccountRepository.debitIfSufficient(eq(1L), eq(new BigDecimal("200.00")), eq(BigDecimal.ZERO), any(LocalDateTime.class))).thenReturn(1);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("800.00")));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(bankAccount);
         
         Transaction withdrawalTransaction = new Transaction();
         withdrawalTransaction.setTransactionId(2L);
@@ -128,7 +177,6 @@ class TransactionServiceTest {
         withdrawalTransaction.setBankAccount(bankAccount);
         
         when(transactionRepository.save(any(Transaction.class))).thenReturn(withdrawalTransaction);
-        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(bankAccount);
 
         // When
         TransactionResponse response = transactionService.createTransaction(1L, 1L, withdrawalRequest);
@@ -140,11 +188,9 @@ class TransactionServiceTest {
         assertEquals("WITHDRAWAL", response.getTransactionType());
         assertEquals(new BigDecimal("800.00"), response.getBalanceAfter());
 
-        // Verify account balance was updated
-        assertEquals(new BigDecimal("800.00"), bankAccount.getBalance());
-
-        verify(bankAccountService).findByIdAndValidateOwnership(1L, 1L);
-        verify(bankAccountRepository).save(bankAccount);
+        verify(bankAccountService).validateOwnership(1L, 1L);
+        verify(bankAccountRepository).debitIfSufficient(eq(1L), eq(new BigDecimal("200.00")), eq(BigDecimal.ZERO), any(LocalDateTime.class));
+        verify(bankAccountRepository, never()).save(any());
         verify(transactionRepository).save(any(Transaction.class));
     }
 
@@ -152,7 +198,8 @@ class TransactionServiceTest {
     void createTransaction_InsufficientFunds_ThrowsException() {
         // Given
         withdrawalRequest.setAmount(new BigDecimal("1500.00")); // More than balance
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
+        when(bankAccountRepository.debitIfSufficient(eq(1L), eq(new BigDecimal("1500.00")), eq(BigDecimal.ZERO), any(LocalDateTime.class))).thenReturn(0);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("1000.00")));
 
         // When & Then
         UnprocessableEntityException exception = assertThrows(
@@ -163,7 +210,7 @@ class TransactionServiceTest {
         assertTrue(exception.getMessage().contains("Insufficient funds"));
         assertTrue(exception.getMessage().contains("1000.00"));
 
-        verify(bankAccountService).findByIdAndValidateOwnership(1L, 1L);
+        verify(bankAccountService).validateOwnership(1L, 1L);
         verify(bankAccountRepository, never()).save(any());
         verify(transactionRepository, never()).save(any());
     }
@@ -172,7 +219,9 @@ class TransactionServiceTest {
     void createTransaction_ExactBalance_Success() {
         // Given - withdraw exact balance
         withdrawalRequest.setAmount(new BigDecimal("1000.00"));
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
+        when(bankAccountRepository.debitIfSufficient(eq(1L), eq(new BigDecimal("1000.00")), eq(BigDecimal.ZERO), any(LocalDateTime.class))).thenReturn(1);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("0.00")));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(bankAccount);
         
         Transaction exactWithdrawal = new Transaction();
         exactWithdrawal.setTransactionId(3L);
@@ -182,7 +231,6 @@ class TransactionServiceTest {
         exactWithdrawal.setBankAccount(bankAccount);
         
         when(transactionRepository.save(any(Transaction.class))).thenReturn(exactWithdrawal);
-        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(bankAccount);
 
         // When
         TransactionResponse response = transactionService.createTransaction(1L, 1L, withdrawalRequest);
@@ -190,12 +238,56 @@ class TransactionServiceTest {
         // Then
         assertNotNull(response);
         assertEquals(new BigDecimal("0.00"), response.getBalanceAfter());
-        assertEquals(new BigDecimal("0.00"), bankAccount.getBalance());
 
-        verify(bankAccountRepository).save(bankAccount);
+        verify(bankAccountRepository).debitIfSufficient(eq(1L), eq(new BigDecimal("1000.00")), eq(BigDecimal.ZERO), any(LocalDateTime.class));
         verify(transactionRepository).save(any(Transaction.class));
     }
 
+    @Test
+    void createTransaction_AccountRemovedConcurrently_ThrowsNotFound() {
+        // Given - the account disappears between the ownership check and the balance update
+        when(bankAccountRepository.credit(eq(1L), any(BigDecimal.class), any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then
+        assertThrows(
+            ResourceNotFoundException.class,
+            () -> transactionService.createTransaction(1L, 1L, depositRequest)
+        );
+
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void postBatch_AppliesInOrderAndRejectsOverdraftIndividually() {
+        // Given - balance 1000: deposit 500, withdraw 2000 (rejected), withdraw 200
+        TransactionCreateRequest overdraft = new TransactionCreateRequest();
+        overdraft.setAmount(new BigDecimal("2000.00"));
+        overdraft.setTransactionType("WITHDRAWAL");
+        when(bankAccountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(bankAccount));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<PostingResult> results = transactionService.postBatch(1L, List.of(depositRequest, overdraft, withdrawalRequest));
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(new BigDecimal("1500.00"), results.get(0).getTransaction().getBalanceAfter());
+        assertTrue(results.get(1).getError() instanceof UnprocessableEntityException);
+        assertTrue(results.get(2).isSuccess());
+        assertEquals(new BigDecimal("1300.00"), results.get(2).getTransaction().getBalanceAfter());
+
+        // One balance change for the whole batch, applied to the locked entity
+        assertEquals(new BigDecimal("1300.00"), bankAccount.getBalance());
+        verify(transactionRepository).saveAll(anyList());
+        verify(bankAccountRepository, never()).credit(any(), any(), any());
+
+        // Streams only hear about the balance the batch ends with
+        ArgumentCaptor<BalanceEvent> event = ArgumentCaptor.forClass(BalanceEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(new BigDecimal("1300.00"), event.getValue().getBalance());
+    }
+
     @Test
     void getAccountTransactions_Success() {
         // Given
@@ -206,49 +298,130 @@ class TransactionServiceTest {
         transaction2.setBankAccount(bankAccount);
         transaction2.setTransactionDate(LocalDateTime.now().minusHours(1));
 
-        List<Transaction> transactions = Arrays.asList(transaction, transaction2);
+        List<TransactionResponse> transactions = responses(transaction, transaction2);
         
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
-        when(transactionRepository.findByBankAccountAccountIdOrderByTransactionDateDesc(eq(1L)))
+        when(transactionRepository.findAccountHistory(eq(1L), any(Pageable.class)))
             .thenReturn(transactions);
 
         // When
-        List<TransactionResponse> responses = transactionService.getAccountTransactions(1L, 1L);
+        TransactionPage page = transactionService.getAccountTransactions(1L, 1L, 50, null);
 
         // Then
-        assertNotNull(responses);
-        assertEquals(2, responses.size());
-        assertEquals(1L, responses.get(0).getTransactionId());
-        assertEquals(2L, responses.get(1).getTransactionId());
+        assertNotNull(page);
+        assertEquals(2, page.getTransactions().size());
+        assertEquals(1L, page.getTransactions().get(0).getTransactionId());
+        assertEquals(2L, page.getTransactions().get(1).getTransactionId());
+        assertNull(page.getNextCursor());
+
+        verify(bankAccountService).validateOwnership(1L, 1L);
+        verify(transactionRepository).findAccountHistory(1L, PageRequest.of(0, 51));
+    }
 
-        verify(bankAccountService).findByIdAndValidateOwnership(1L, 1L);
-        verify(transactionRepository).findByBankAccountAccountIdOrderByTransactionDateDesc(1L);
+    @Test
+    void getAccountTransactions_MoreRowsThanLimit_ReturnsCursorForNextPage() {
+        // Given - limit 1, the repository returns the extra look-ahead row
+        Transaction transaction2 = new Transaction();
+        transaction2.setTransactionId(2L);
+        transaction2.setAmount(new BigDecimal("200.00"));
+        transaction2.setTransactionType("WITHDRAWAL");
+        transaction2.setBankAccount(bankAccount);
+        transaction2.setTransactionDate(transaction.getTransactionDate().minusHours(1));
+
+        when(transactionRepository.findAccountHistory(eq(1L), any(Pageable.class)))
+            .thenReturn(responses(transaction, transaction2));
+
+        // When
+        TransactionPage page = transactionService.getAccountTransactions(1L, 1L, 1, null);
+
+        // Then
+        assertEquals(1, page.getTransactions().size());
+        assertNotNull(page.getNextCursor());
+
+        // The cursor continues right after the last returned row
+        TransactionCursor cursor = TransactionCursor.decode(page.getNextCursor());
+        assertEquals(transaction.getTransactionDate(), cursor.getTransactionDate());
+        assertEquals(1L, cursor.getTransactionId());
+
+        when(transactionRepository.findAccountHistoryAfter(eq(1L), eq(transaction.getTransactionDate()), eq(1L), any(Pageable.class)))
+            .thenReturn(responses(transaction2));
+        TransactionPage nextPage = transactionService.getAccountTransactions(1L, 1L, 1, page.getNextCursor());
+        assertEquals(2L, nextPage.getTransactions().get(0).getTransactionId());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void getAccountTransactions_PastHotWindow_FillsPageFromArchive() {
+        // Given - one row left in the table, older rows archived
+        TransactionResponse archived1 = new TransactionResponse(
+            2L, new BigDecimal("5.00"), "DEPOSIT", null, new BigDecimal("95.00"), transaction.getTransactionDate().minusDays(400), 1L);
+        TransactionResponse archived2 = new TransactionResponse(
+            3L, new BigDecimal("5.00"), "DEPOSIT", null, new BigDecimal("100.00"), transaction.getTransactionDate().minusDays(500), 1L);
+        when(transactionRepository.findAccountHistory(eq(1L), any(Pageable.class)))
+            .thenReturn(responses(transaction));
+        when(transactionArchive.hasArchivedRows()).thenReturn(true);
+        when(transactionArchive.findHistory(List.of(1L), transaction.getTransactionDate(), 1L, 2))
+            .thenReturn(List.of(archived1, archived2));
+
+        // When
+        TransactionPage page = transactionService.getAccountTransactions(1L, 1L, 2, null);
+
+        // Then - the archive continues strictly below the last table row, with the look-ahead row kept
+        assertEquals(2, page.getTransactions().size());
+        assertEquals(1L, page.getTransactions().get(0).getTransactionId());
+        assertEquals(2L, page.getTransactions().get(1).getTransactionId());
+        TransactionCursor cursor = TransactionCursor.decode(page.getNextCursor());
+        assertEquals(2L, cursor.getTransactionId());
+    }
+
+    @Test
+    void getAccountTransactions_FullHotPage_DoesNotReadArchive() {
+        Transaction transaction2 = new Transaction();
+        transaction2.setTransactionId(2L);
+        transaction2.setAmount(new BigDecimal("200.00"));
+        transaction2.setTransactionType("WITHDRAWAL");
+        transaction2.setBankAccount(bankAccount);
+        transaction2.setTransactionDate(transaction.getTransactionDate().minusHours(1));
+        when(transactionRepository.findAccountHistory(eq(1L), any(Pageable.class)))
+            .thenReturn(responses(transaction, transaction2));
+
+        TransactionPage page = transactionService.getAccountTransactions(1L, 1L, 1, null);
+
+        assertNotNull(page.getNextCursor());
+        verify(transactionArchive, never()).findHistory(anyList(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getAccountTransactions_InvalidCursor_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.getAccountTransactions(1L, 1L, 50, "not-a-cursor"));
     }
 
     @Test
     void getUserTransactions_Success() {
         // Given
-        List<Transaction> transactions = Arrays.asList(transaction);
-        when(transactionRepository.findByBankAccountUserUserIdOrderByTransactionDateDesc(eq(1L)))
+        List<TransactionResponse> transactions = responses(transaction);
+        when(transactionRepository.findUserHistory(eq(1L), any(Pageable.class)))
             .thenReturn(transactions);
 
         // When
-        List<TransactionResponse> responses = transactionService.getUserTransactions(1L);
+        TransactionPage page = transactionService.getUserTransactions(1L, 50, null);
 
         // Then
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
-        assertEquals(1L, responses.get(0).getTransactionId());
-        assertEquals("DEPOSIT", responses.get(0).getTransactionType());
+        assertNotNull(page);
+        assertEquals(1, page.getTransactions().size());
+        assertEquals(1L, page.getTransactions().get(0).getTransactionId());
+        assertEquals("DEPOSIT", page.getTransactions().get(0).getTransactionType());
 
-        verify(transactionRepository).findByBankAccountUserUserIdOrderByTransactionDateDesc(1L);
+        verify(transactionRepository).findUserHistory(1L, PageRequest.of(0, 51));
     }
 
     @Test
     void createTransaction_ZeroAmount_ShouldNotBeAllowed() {
         // Given
         depositRequest.setAmount(new BigDecimal("0.00"));
-        when(bankAccountService.findByIdAndValidateOwnership(eq(1L), eq(1L))).thenReturn(bankAccount);
+        when(bankAccountRepository.credit(eq(1L), eq(new BigDecimal("0.00")), any(LocalDateTime.class))).thenReturn(1);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("1000.00")));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(bankAccount);
 
         // Note: This would be caught by validation at the controller level,
         // but testing the service behavior if it somehow gets through
@@ -259,7 +432,6 @@ class TransactionServiceTest {
         zeroTransaction.setBankAccount(bankAccount);
         
         when(transactionRepository.save(any(Transaction.class))).thenReturn(zeroTransaction);
-        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(bankAccount);
 
         // When
         TransactionResponse response = transactionService.createTransaction(1L, 1L, depositRequest);
@@ -268,6 +440,196 @@ class TransactionServiceTest {
         assertNotNull(response);
         assertEquals(new BigDecimal("0.00"), response.getAmount());
         // Balance should remain the same for zero amount
+        assertEquals(new BigDecimal("1000.00"), response.getBalanceAfter());
+    }
+
+    @Test
+    void createTransaction_WithUsedIdempotencyKey_ReturnsPreviousResponse() {
+        // Given
+        TransactionResponse previous = responses(transaction).get(0);
+        when(idempotencyService.findPrevious(eq("1:key-1"), any(String.class))).thenReturn(Optional.of(previous));
+
+        // When
+        TransactionResponse response = transactionService.createTransaction(1L, 1L, depositRequest, "key-1");
+
+        // Then
+        assertEquals(previous, response);
+        verify(bankAccountService).validateOwnership(1L, 1L);
+        verify(bankAccountRepository, never()).credit(any(), any(), any());
+        verify(transactionRepository, never()).save(any());
+        verify(idempotencyService, never()).record(any(), any(), any());
+    }
+
+    @Test
+    void createTransaction_WithNewIdempotencyKey_RecordsResponse() {
+        // Given
+        when(idempotencyService.findPrevious(eq("1:key-2"), any(String.class))).thenReturn(Optional.empty());
+        when(bankAccountRepository.credit(eq(1L), eq(new BigDecimal("500.00")), any(LocalDateTime.class))).thenReturn(1);
+        when(bankAccountRepository.findBalanceByAccountId(1L)).thenReturn(Optional.of(new BigDecimal("1500.00")));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(bankAccount);
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(transaction);
+
+        // When
+        TransactionResponse response = transactionService.createTransaction(1L, 1L, depositRequest, "key-2");
+
+        // Then
+        verify(idempotencyService).record("1:key-2", IdempotencyService.requestHash(1L, depositRequest), response);
+    }
+
+    @Test
+    void createTransaction_BlankIdempotencyKey_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.createTransaction(1L, 1L, depositRequest, " "));
+        verify(bankAccountService, never()).validateOwnership(any(), any());
+    }
+
+    @Test
+    void requestHash_IgnoresAmountScale() {
+        TransactionCreateRequest sameAmount = new TransactionCreateRequest();
+        sameAmount.setAmount(new BigDecimal("500.0"));
+        sameAmount.setTransactionType("DEPOSIT");
+        sameAmount.setDescription("Salary deposit");
+
+        assertEquals(IdempotencyService.requestHash(1L, depositRequest), IdempotencyService.requestHash(1L, sameAmount));
+        assertNotEquals(IdempotencyService.requestHash(1L, depositRequest), IdempotencyService.requestHash(2L, depositRequest));
+    }
+
+    @Test
+    void getBalanceAsOf_UsesBalanceOfLastPostingBeforeInstant() {
+        // Given
+        LocalDateTime asOf = LocalDateTime.now().minusDays(1);
+        when(transactionRepository.findBalancesAtOrBefore(1L, asOf, PageRequest.of(0, 1)))
+            .thenReturn(List.of(new BigDecimal("1500.00")));
+
+        // When
+        BalanceResponse response = transactionService.getBalanceAsOf(1L, 1L, asOf);
+
+        // Then
+        assertEquals(new BigDecimal("1500.00"), response.getBalance());
+        assertEquals(asOf, response.getAsOf());
+        verify(bankAccountService).validateOwnership(1L, 1L);
+        verify(bankAccountRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void getBalanceAsOf_BeforeFirstPosting_ReturnsOpeningBalance() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(10);
+        LocalDateTime asOf = createdAt.plusDays(1);
+        when(transactionRepository.findBalancesAtOrBefore(1L, asOf, PageRequest.of(0, 1))).thenReturn(List.of());
+        when(bankAccountRepository.findResponseById(1L)).thenReturn(Optional.of(new BankAccountResponse(
+            1L, "Savings Account", "SAVINGS", new BigDecimal("1500.00"), "EB1705312345678", 1L, createdAt, createdAt)));
+        when(transactionRepository.findFirstAfter(1L, asOf, PageRequest.of(0, 1))).thenReturn(responses(transaction));
+
+        // When
+        BalanceResponse response = transactionService.getBalanceAsOf(1L, 1L, asOf);
+
+        // Then: the first deposit of 500.00 took the balance to 1500.00
+        assertEquals(new BigDecimal("1000.00"), response.getBalance());
+    }
+
+    @Test
+    void getBalanceAsOf_BeforeHotWindow_UsesArchivedPosting() {
+        // Given
+        LocalDateTime asOf = LocalDateTime.now().minusYears(2);
+        when(transactionRepository.findBalancesAtOrBefore(1L, asOf, PageRequest.of(0, 1))).thenReturn(List.of());
+        when(transactionArchive.hasArchivedRows()).thenReturn(true);
+        when(transactionArchive.findLastAtOrBefore(1L, asOf)).thenReturn(Optional.of(new TransactionResponse(
+            7L, new BigDecimal("20.00"), "WITHDRAWAL", null, new BigDecimal("80.00"), asOf.minusDays(3), 1L)));
+
+        // When
+        BalanceResponse response = transactionService.getBalanceAsOf(1L, 1L, asOf);
+
+        // Then
+        assertEquals(new BigDecimal("80.00"), response.getBalance());
+        verify(bankAccountRepository, never()).findResponseById(any());
+    }
+
+    @Test
+    void getBalanceAsOf_BeforeAccountExisted_ThrowsIllegalArgument() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(10);
+        LocalDateTime asOf = createdAt.minusDays(1);
+        when(transactionRepository.findBalancesAtOrBefore(1L, asOf, PageRequest.of(0, 1))).thenReturn(List.of());
+        when(bankAccountRepository.findResponseById(1L)).thenReturn(Optional.of(new BankAccountResponse(
+            1L, "Savings Account", "SAVINGS", new BigDecimal("1000.00"), "EB1705312345678", 1L, createdAt, createdAt)));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> transactionService.getBalanceAsOf(1L, 1L, asOf));
+    }
+
+    @Test
+    void transfer_LocksAccountsInAscendingOrderAndWritesBothLegs() {
+        // Given: a transfer from the higher to the lower account id
+        BankAccount destination = new BankAccount();
+        destination.setAccountId(1L);
+        destination.setBalance(new BigDecimal("100.00"));
+        destination.setUser(user);
+        BankAccount source = new BankAccount();
+        source.setAccountId(2L);
+        source.setBalance(new BigDecimal("500.00"));
+        source.setUser(user);
+        when(bankAccountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(destination));
+        when(bankAccountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(source));
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TransferResponse response = transactionService.transfer(1L, transferRequest(2L, 1L, "200.00"));
+
+        // Then
+        InOrder locking = inOrder(bankAccountRepository);
+        locking.verify(bankAccountRepository).findByIdForUpdate(1L);
+        locking.verify(bankAccountRepository).findByIdForUpdate(2L);
+        assertEquals(new BigDecimal("300.00"), source.getBalance());
+        assertEquals(new BigDecimal("300.00"), destination.getBalance());
+
+        assertEquals("TRANSFER_OUT", response.getDebit().getTransactionType());
+        assertEquals(2L, response.getDebit().getAccountId());
+        assertEquals(1L, response.getDebit().getCounterpartyAccountId());
+        assertEquals("TRANSFER_IN", response.getCredit().getTransactionType());
+        assertEquals(new BigDecimal("300.00"), response.getCredit().getBalanceAfter());
+        assertEquals(response.getTransferId(), response.getCredit().getTransferId());
+        verify(transactionRepository).saveAll(anyList());
+        verify(accountStatsService).recordPostings(anyList());
+    }
+
+    @Test
+    void transfer_InsufficientFunds_WritesNothing() {
+        // Given
+        BankAccount destination = new BankAccount();
+        destination.setAccountId(2L);
+        destination.setBalance(BigDecimal.ZERO);
+        destination.setUser(user);
+        when(bankAccountRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(bankAccount));
+        when(bankAccountRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(destination));
+
+        // When & Then
+        assertThrows(UnprocessableEntityException.class,
+            () -> transactionService.transfer(1L, transferRequest(1L, 2L, "5000.00")));
         assertEquals(new BigDecimal("1000.00"), bankAccount.getBalance());
+        verify(transactionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void transfer_SameAccount_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class,
+            () -> transactionService.transfer(1L, transferRequest(1L, 1L, "10.00")));
+        verify(bankAccountRepository, never()).findByIdForUpdate(any());
+    }
+
+    private TransferRequest transferRequest(Long from, Long to, String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setFromAccountId(from);
+        request.setToAccountId(to);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    // The history queries project straight into responses, mirroring the JPQL constructor expression
+    private List<TransactionResponse> responses(Transaction... transactions) {
+        return Arrays.stream(transactions)
+            .map(t -> new TransactionResponse(t.getTransactionId(), t.getAmount(), t.getTransactionType(),
+                t.getDescription(), t.getBalanceAfter(), t.getTransactionDate(), t.getBankAccount().getAccountId()))
+            .toList();
     }
 }
@@ -186,6 +186,7 @@ class UserServiceTest {
         // Then
         verify(userRepository).findById(1L);
         verify(userRepository).hasBankAccounts(1L);
+        verify(userRepository).purgeDeletedAccounts(1L);
         verify(userRepository).delete(user);
     }
 